@@ -0,0 +1,27 @@
+plugins {
+    id("java")
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+repositories {
+    mavenCentral()
+    maven(url = "https://libraries.minecraft.net")
+}
+
+dependencies {
+    jmh(project(":common"))
+    jmh(project(":cli"))
+    jmh(project(":brigadier"))
+    jmh("com.mojang:brigadier:1.0.18")
+}
+
+jmh {
+    jmhVersion.set("1.37")
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+}
+
+tasks.withType<JavaCompile> {
+    // Preserve parameter names in the bytecode
+    options.compilerArgs.add("-parameters")
+}
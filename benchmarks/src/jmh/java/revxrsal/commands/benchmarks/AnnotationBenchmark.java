@@ -0,0 +1,94 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import revxrsal.commands.Lamp;
+import revxrsal.commands.annotation.CommandPlaceholder;
+import revxrsal.commands.annotation.Default;
+import revxrsal.commands.annotation.Flag;
+import revxrsal.commands.annotation.Length;
+import revxrsal.commands.annotation.Optional;
+import revxrsal.commands.annotation.Range;
+import revxrsal.commands.annotation.list.AnnotationList;
+import revxrsal.commands.cli.ConsoleActor;
+import revxrsal.commands.orphan.OrphanCommand;
+import revxrsal.commands.orphan.Orphans;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures dispatching a command whose parameters carry several annotations,
+ * both when it succeeds and when it fails with an exception that is handled
+ * by the exception handler.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnnotationBenchmark {
+
+    private Lamp<ConsoleActor> lamp;
+    private ConsoleActor actor;
+    private AnnotationList annotations;
+
+    public static final class Handler implements OrphanCommand {
+
+        @CommandPlaceholder
+        public void run(
+                ConsoleActor actor,
+                @Length(min = 1, max = 16) String target,
+                @Range(min = 1, max = 100) int amount,
+                @Flag("count") @Optional @Default("1") @Range(min = 1, max = 10) int count
+        ) {
+        }
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        lamp = SyntheticCommands.emptyLamp();
+        lamp.register(Orphans.path("pay").handler(new Handler()));
+        actor = SilentConsoleActor.create(lamp);
+        annotations = AnnotationList.create(Handler.class.getMethod(
+                "run", ConsoleActor.class, String.class, int.class, int.class
+        ).getParameters()[3]);
+    }
+
+    @Benchmark
+    public void dispatch() {
+        lamp.dispatch(actor, "pay alice 5 --count 3");
+    }
+
+    @Benchmark
+    public void dispatchOutOfRange() {
+        lamp.dispatch(actor, "pay alice 500");
+    }
+
+    @Benchmark
+    public Object annotationLookup() {
+        return annotations.get(Range.class);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import revxrsal.commands.Lamp;
+import revxrsal.commands.autocomplete.AutoCompleter;
+import revxrsal.commands.cli.ConsoleActor;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link AutoCompleter#complete(revxrsal.commands.command.CommandActor, String)}
+ * against synthetic trees of different sizes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AutoCompleteBenchmark {
+
+    private static final int INPUTS = 1024;
+
+    @Param({"10", "1000", "10000"})
+    public int size;
+
+    private AutoCompleter<ConsoleActor> completer;
+    private ConsoleActor actor;
+    private String[] literalInputs;
+    private String[] parameterInputs;
+    private String[] flagInputs;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Lamp<ConsoleActor> lamp = SyntheticCommands.lamp(size);
+        completer = lamp.autoCompleter();
+        actor = SilentConsoleActor.create(lamp);
+        literalInputs = new String[INPUTS];
+        parameterInputs = new String[INPUTS];
+        flagInputs = new String[INPUTS];
+        Random random = new Random(0);
+        int groups = SyntheticCommands.groups(size);
+        for (int i = 0; i < INPUTS; i++) {
+            String path = SyntheticCommands.path(random.nextInt(size), size);
+            literalInputs[i] = "group" + random.nextInt(groups) + " command";
+            parameterInputs[i] = path + " ";
+            flagInputs[i] = path + " alice 5 --";
+        }
+    }
+
+    private int next() {
+        return cursor++ & (INPUTS - 1);
+    }
+
+    @Benchmark
+    public List<String> completeLiteral() {
+        return completer.complete(actor, literalInputs[next()]);
+    }
+
+    @Benchmark
+    public List<String> completeParameter() {
+        return completer.complete(actor, parameterInputs[next()]);
+    }
+
+    @Benchmark
+    public List<String> completeFlag() {
+        return completer.complete(actor, flagInputs[next()]);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.benchmarks;
+
+import com.mojang.brigadier.arguments.ArgumentType;
+import com.mojang.brigadier.tree.LiteralCommandNode;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.*;
+import revxrsal.commands.Lamp;
+import revxrsal.commands.brigadier.BrigadierConverter;
+import revxrsal.commands.brigadier.BrigadierParser;
+import revxrsal.commands.brigadier.types.ArgumentTypes;
+import revxrsal.commands.cli.ConsoleActor;
+import revxrsal.commands.command.ExecutableCommand;
+import revxrsal.commands.node.ParameterNode;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link BrigadierParser#createNode(ExecutableCommand)} on the
+ * commands of synthetic trees of different sizes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BrigadierParserBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int size;
+
+    private BrigadierParser<ConsoleActor, ConsoleActor> parser;
+    private List<ExecutableCommand<ConsoleActor>> commands;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Lamp<ConsoleActor> lamp = SyntheticCommands.lamp(size);
+        ArgumentTypes<ConsoleActor> types = ArgumentTypes.<ConsoleActor>builder().build();
+        parser = new BrigadierParser<>(new BrigadierConverter<ConsoleActor, ConsoleActor>() {
+            @Override public @NotNull ArgumentType<?> getArgumentType(@NotNull ParameterNode<ConsoleActor, ?> parameter) {
+                return types.type(parameter);
+            }
+
+            @Override public @NotNull ConsoleActor createActor(@NotNull ConsoleActor sender, @NotNull Lamp<ConsoleActor> lamp) {
+                return sender;
+            }
+        });
+        commands = lamp.registry().commands();
+    }
+
+    @Benchmark
+    public LiteralCommandNode<ConsoleActor> createNode() {
+        ExecutableCommand<ConsoleActor> command = commands.get(cursor);
+        if (++cursor == commands.size())
+            cursor = 0;
+        return parser.createNode(command);
+    }
+}
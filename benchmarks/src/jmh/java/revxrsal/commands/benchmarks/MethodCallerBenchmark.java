@@ -0,0 +1,86 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import revxrsal.commands.reflect.MethodCaller;
+import revxrsal.commands.reflect.MethodCallerFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link MethodCaller} backends with plain reflection
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MethodCallerBenchmark {
+
+    private Method method;
+    private MethodCaller.BoundMethodCaller methodHandles;
+    private MethodCaller.BoundMethodCaller exactMethodHandles;
+    private MethodCaller.BoundMethodCaller kotlinFunctions;
+    private Target target;
+    private Object[] arguments;
+
+    public static final class Target {
+        public String run(String target, int amount, boolean silent) {
+            return target;
+        }
+    }
+
+    @Setup
+    public void setUp() throws Throwable {
+        target = new Target();
+        method = Target.class.getMethod("run", String.class, int.class, boolean.class);
+        methodHandles = MethodCallerFactory.methodHandles().createFor(method).bindTo(target);
+        exactMethodHandles = MethodCallerFactory.exactMethodHandles().createFor(method).bindTo(target);
+        kotlinFunctions = MethodCallerFactory.kotlinFunctions().createFor(method).bindTo(target);
+        arguments = new Object[]{"alice", 5, true};
+    }
+
+    @Benchmark
+    public Object reflection() throws Exception {
+        return method.invoke(target, arguments);
+    }
+
+    @Benchmark
+    public Object methodHandles() {
+        return methodHandles.call(arguments);
+    }
+
+    @Benchmark
+    public Object exactMethodHandles() {
+        return exactMethodHandles.call(arguments);
+    }
+
+    @Benchmark
+    public Object kotlinFunctions() {
+        return kotlinFunctions.call(arguments);
+    }
+}
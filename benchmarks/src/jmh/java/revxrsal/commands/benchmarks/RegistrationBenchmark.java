@@ -0,0 +1,73 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import revxrsal.commands.Lamp;
+import revxrsal.commands.cli.ConsoleActor;
+import revxrsal.commands.command.ExecutableCommand;
+import revxrsal.commands.orphan.OrphanRegistry;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Lamp#register(Object...)} of synthetic trees of
+ * different sizes into an empty {@link Lamp}, both as a single bulk
+ * registration and as one registration per command.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class RegistrationBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int size;
+
+    private Lamp<ConsoleActor> lamp;
+    private OrphanRegistry bulk;
+    private OrphanRegistry[] individual;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        lamp = SyntheticCommands.emptyLamp();
+        bulk = SyntheticCommands.registry(size);
+        individual = SyntheticCommands.registries(size);
+    }
+
+    @Benchmark
+    public List<ExecutableCommand<ConsoleActor>> registerAll() {
+        return lamp.register(bulk);
+    }
+
+    @Benchmark
+    public Lamp<ConsoleActor> registerOneByOne() {
+        for (OrphanRegistry registry : individual)
+            lamp.register(registry);
+        return lamp;
+    }
+}
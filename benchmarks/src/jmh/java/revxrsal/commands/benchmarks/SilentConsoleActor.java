@@ -0,0 +1,68 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.benchmarks;
+
+import org.jetbrains.annotations.NotNull;
+import revxrsal.commands.Lamp;
+import revxrsal.commands.cli.ConsoleActor;
+import revxrsal.commands.cli.actor.ActorFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Scanner;
+
+import static revxrsal.commands.util.Preconditions.cannotInstantiate;
+
+/**
+ * Creates {@link ConsoleActor}s that stand in for a command line. They read
+ * nothing and discard everything that is written to them, so that printing
+ * does not show up in the measurements.
+ */
+public final class SilentConsoleActor {
+
+    private static final PrintStream DISCARD = new PrintStream(new OutputStream() {
+        @Override public void write(int b) {
+        }
+
+        @Override public void write(byte @NotNull [] b, int off, int len) {
+        }
+    });
+
+    private SilentConsoleActor() {
+        cannotInstantiate(SilentConsoleActor.class);
+    }
+
+    /**
+     * Creates a silent {@link ConsoleActor} for the given {@link Lamp}
+     *
+     * @param lamp The {@link Lamp} instance
+     * @return The actor
+     */
+    public static @NotNull ConsoleActor create(@NotNull Lamp<ConsoleActor> lamp) {
+        InputStream input = new ByteArrayInputStream(new byte[0]);
+        return ActorFactory.defaultFactory().create(input, DISCARD, DISCARD, new Scanner(input), lamp);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import revxrsal.commands.stream.MutableStringStream;
+import revxrsal.commands.stream.StringStream;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link MutableStringStream} readers with reading a string
+ * and parsing it afterwards
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringStreamBenchmark {
+
+    private static final String INTEGERS = "128 -64 1024";
+    private static final String DECIMALS = "128.5 -64.25 1024.125";
+    private static final String QUOTED = "\"Hello there, general Kenobi\"";
+
+    @Benchmark
+    public long readInt() {
+        MutableStringStream input = StringStream.createMutable(INTEGERS);
+        long sum = 0;
+        while (input.hasRemaining()) {
+            sum += input.readInt();
+            input.skipWhitespace();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long parseInt() {
+        MutableStringStream input = StringStream.createMutable(INTEGERS);
+        long sum = 0;
+        while (input.hasRemaining()) {
+            sum += Integer.parseInt(input.readUnquotedString());
+            input.skipWhitespace();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double readDouble() {
+        MutableStringStream input = StringStream.createMutable(DECIMALS);
+        double sum = 0;
+        while (input.hasRemaining()) {
+            sum += input.readDouble();
+            input.skipWhitespace();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double parseDouble() {
+        MutableStringStream input = StringStream.createMutable(DECIMALS);
+        double sum = 0;
+        while (input.hasRemaining()) {
+            sum += Double.parseDouble(input.readUnquotedString());
+            input.skipWhitespace();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public String readQuotedString() {
+        return StringStream.createMutable(QUOTED).readString();
+    }
+
+    @Benchmark
+    public String readQuotedStringWithBuilder() {
+        MutableStringStream input = StringStream.createMutable(QUOTED);
+        input.moveForward();
+        StringBuilder result = new StringBuilder();
+        while (input.hasRemaining()) {
+            char c = input.read();
+            if (c == '"')
+                break;
+            result.append(c);
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.benchmarks;
+
+import org.jetbrains.annotations.NotNull;
+import revxrsal.commands.Lamp;
+import revxrsal.commands.annotation.CommandPlaceholder;
+import revxrsal.commands.annotation.Default;
+import revxrsal.commands.annotation.Flag;
+import revxrsal.commands.annotation.Optional;
+import revxrsal.commands.annotation.Switch;
+import revxrsal.commands.cli.CLILamp;
+import revxrsal.commands.cli.ConsoleActor;
+import revxrsal.commands.orphan.OrphanCommand;
+import revxrsal.commands.orphan.OrphanRegistry;
+import revxrsal.commands.orphan.Orphans;
+
+import static revxrsal.commands.util.Preconditions.cannotInstantiate;
+
+/**
+ * Generates synthetic command trees for benchmarks.
+ * <p>
+ * A tree of {@code size} paths is made of {@code sqrt(size)} groups, each
+ * containing about the same number of commands. Every path is of the form
+ * {@code group<g> command<i>}, and takes two positional arguments, a flag
+ * and a switch:
+ * <pre>{@code
+ * group<g> command<i> <target> <amount> [--count <count>] [--silent]
+ * }</pre>
+ */
+public final class SyntheticCommands {
+
+    private SyntheticCommands() {
+        cannotInstantiate(SyntheticCommands.class);
+    }
+
+    /**
+     * The handler of every synthetic command. It does nothing, so that
+     * benchmarks only measure the framework.
+     */
+    public static final class Handler implements OrphanCommand {
+
+        @CommandPlaceholder
+        public void run(
+                ConsoleActor actor,
+                String target,
+                int amount,
+                @Flag("count") @Optional @Default("1") int count,
+                @Switch("silent") boolean silent
+        ) {
+        }
+    }
+
+    /**
+     * Returns the number of groups in a tree of the given size
+     *
+     * @param size The number of paths
+     * @return The number of groups
+     */
+    public static int groups(int size) {
+        return Math.max(1, (int) Math.ceil(Math.sqrt(size)));
+    }
+
+    /**
+     * Returns the path of the {@code index}-th command in a tree
+     * of the given size
+     *
+     * @param index The command index
+     * @param size  The number of paths
+     * @return The command path
+     */
+    public static @NotNull String path(int index, int size) {
+        return "group" + (index % groups(size)) + " command" + index;
+    }
+
+    /**
+     * Returns all the paths of a tree of the given size
+     *
+     * @param size The number of paths
+     * @return The command paths
+     */
+    public static @NotNull String @NotNull [] paths(int size) {
+        String[] paths = new String[size];
+        for (int i = 0; i < size; i++)
+            paths[i] = path(i, size);
+        return paths;
+    }
+
+    /**
+     * Creates a single {@link OrphanRegistry} that registers all the paths
+     * of a tree of the given size
+     *
+     * @param size The number of paths
+     * @return The registry
+     */
+    public static @NotNull OrphanRegistry registry(int size) {
+        return Orphans.path(paths(size)).handler(new Handler());
+    }
+
+    /**
+     * Creates one {@link OrphanRegistry} per path of a tree of
+     * the given size
+     *
+     * @param size The number of paths
+     * @return The registries
+     */
+    public static @NotNull OrphanRegistry @NotNull [] registries(int size) {
+        OrphanRegistry[] registries = new OrphanRegistry[size];
+        Handler handler = new Handler();
+        for (int i = 0; i < size; i++)
+            registries[i] = Orphans.path(path(i, size)).handler(handler);
+        return registries;
+    }
+
+    /**
+     * Creates an empty {@link Lamp} with the default CLI registrations
+     *
+     * @return The new {@link Lamp}
+     */
+    public static @NotNull Lamp<ConsoleActor> emptyLamp() {
+        return CLILamp.<ConsoleActor>builder().build();
+    }
+
+    /**
+     * Creates a {@link Lamp} that contains a tree of the given size
+     *
+     * @param size The number of paths
+     * @return The new {@link Lamp}
+     */
+    public static @NotNull Lamp<ConsoleActor> lamp(int size) {
+        Lamp<ConsoleActor> lamp = emptyLamp();
+        lamp.register(registry(size));
+        return lamp;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.node.parser;
+
+import org.openjdk.jmh.annotations.*;
+import revxrsal.commands.Lamp;
+import revxrsal.commands.benchmarks.SilentConsoleActor;
+import revxrsal.commands.benchmarks.SyntheticCommands;
+import revxrsal.commands.cli.ConsoleActor;
+import revxrsal.commands.command.ExecutableCommand;
+import revxrsal.commands.node.ExecutionContext;
+import revxrsal.commands.node.MutableExecutionContext;
+import revxrsal.commands.stream.StringStream;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link FlagParser#tryParse()} on the flags of a synthetic command.
+ * <p>
+ * Flags are parsed per command, so the size of the tree does not matter here.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlagParserBenchmark {
+
+    @Param({
+            "group0 command0 alice 5",
+            "group0 command0 alice 5 --count 3",
+            "group0 command0 alice 5 --count 3 --silent",
+            "group0 command0 alice 5 --count x"
+    })
+    public String input;
+
+    private ExecutableCommand<ConsoleActor> command;
+    private ConsoleActor actor;
+    private StringStream original;
+
+    @Setup
+    public void setUp() {
+        Lamp<ConsoleActor> lamp = SyntheticCommands.lamp(1);
+        command = lamp.registry().commands().get(0);
+        actor = SilentConsoleActor.create(lamp);
+        original = StringStream.create(input);
+    }
+
+    @Benchmark
+    public boolean tryParse() {
+        MutableExecutionContext<ConsoleActor> context = ExecutionContext.createMutable(command, actor, original);
+        return new FlagParser<>(context, original.toMutableCopy()).tryParse();
+    }
+}
@@ -12,4 +12,16 @@ repositories {
 dependencies {
     implementation(project(":common"))
     compileOnly("com.mojang:brigadier:1.0.18")
+    testImplementation("com.mojang:brigadier:1.0.18")
+    testImplementation(platform("org.junit:junit-bom:5.10.0"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+}
+
+tasks {
+    test {
+        useJUnitPlatform()
+    }
+    compileTestJava {
+        options.compilerArgs.add("-parameters")
+    }
 }
@@ -38,7 +38,7 @@ import org.jetbrains.annotations.Nullable;
 import revxrsal.commands.Lamp;
 import revxrsal.commands.autocomplete.AsyncSuggestionProvider;
 import revxrsal.commands.command.CommandActor;
-import revxrsal.commands.command.Potential;
+import revxrsal.commands.command.ExecutableCommand;
 import revxrsal.commands.node.ExecutionContext;
 import revxrsal.commands.node.ParameterNode;
 import revxrsal.commands.parameter.ParameterType;
@@ -50,8 +50,10 @@ import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static revxrsal.commands.autocomplete.SuggestionProvider.empty;
+import static revxrsal.commands.util.Strings.startsWithIgnoreCase;
 import static revxrsal.commands.util.Strings.stripNamespace;
 
 /**
@@ -94,28 +96,37 @@ public final class BrigadierAdapter {
             A actor = converter.createActor(context.getSource(), parameter.lamp());
             Message tooltip = new LiteralMessage(tooltipMessage);
             String input = context.getInput();
-            MutableStringStream stream = StringStream.createMutable(
-                    input.startsWith("/") ? input.substring(1) : input
-            );
-            if (stream.peekUnquotedString().indexOf(':') != -1)
-                stream = StringStream.createMutable(stripNamespace(input));
+            if (input.startsWith("/"))
+                input = input.substring(1);
+            if (StringStream.create(input).peekUnquotedString().indexOf(':') != -1)
+                input = stripNamespace(input);
 
-            Potential<A> test = parameter.command().test(actor, stream.toMutableCopy());
+            // arguments are only resolved if the provider asks for them
+            ExecutionContext<A> executionContext = new BrigadierExecutionContext<>(
+                    parameter.command(), actor, StringStream.create(input), context
+            );
             if (suggestions instanceof AsyncSuggestionProvider<?>) {
                 //noinspection unchecked
-                return provideAsyncCompletions((AsyncSuggestionProvider<A>) suggestions, builder, test.context(), tooltip);
+                return provideAsyncCompletions((AsyncSuggestionProvider<A>) suggestions, builder, executionContext, tooltip);
             }
 
-            List<@NotNull Suggestion> values = suggestions.getSuggestions(test.context())
-                    .stream()
-                    .sorted(String.CASE_INSENSITIVE_ORDER)
-                    .distinct()
-                    .map(s -> toSuggestion(s, builder, tooltip))
-                    .collect(Collectors.toList());
-            return CompletableFuture.completedFuture(Suggestions.create(builder.getInput(), values));
+            int limit = parameter.lamp().dispatcherSettings().maximumSuggestions();
+            Stream<String> values = suggestions.streamSuggestions(executionContext, builder.getRemaining(), limit);
+            return CompletableFuture.completedFuture(toSuggestions(values, builder, tooltip, limit));
         };
     }
 
+    /**
+     * Provides the suggestions of an {@link AsyncSuggestionProvider}, filtered
+     * by the input that is being completed.
+     *
+     * @param suggestions The suggestion provider
+     * @param builder     The Brigadier suggestions builder
+     * @param context     The execution context
+     * @param tooltip     The tooltip of the suggestions
+     * @param <A>         The actor type
+     * @return The suggestions
+     */
     public static <A extends CommandActor> @NotNull CompletableFuture<Suggestions> provideAsyncCompletions(
             @NotNull AsyncSuggestionProvider<A> suggestions,
             @NotNull SuggestionsBuilder builder,
@@ -124,31 +135,68 @@ public final class BrigadierAdapter {
     ) {
         CompletableFuture<Collection<String>> completions = suggestions
                 .getSuggestionsAsync(context);
-        return completions.thenApply(strings -> {
-            return Suggestions.create(builder.getInput(),
-                    strings.stream()
-                            .sorted(String.CASE_INSENSITIVE_ORDER)
-                            .distinct()
-                            .map(v -> toSuggestion(v, builder, tooltip))
-                            .collect(Collectors.toList()));
-        });
+        String prefix = builder.getRemaining();
+        int limit = context.lamp().dispatcherSettings().maximumSuggestions();
+        return completions.thenApply(strings -> toSuggestions(
+                strings.stream().filter(v -> startsWithIgnoreCase(v, prefix)),
+                builder, tooltip, limit
+        ));
+    }
+
+    /**
+     * Creates Brigadier {@link Suggestions} out of the given values. This is
+     * equivalent to {@link Suggestions#create(String, Collection)}, except it
+     * does not expand each suggestion, as all of them replace the same range
+     * of the input.
+     */
+    private static @NotNull Suggestions toSuggestions(
+            @NotNull Stream<String> values,
+            @NotNull SuggestionsBuilder builder,
+            @Nullable Message tooltip,
+            int limit
+    ) {
+        StringRange range = StringRange.between(builder.getStart(), builder.getInput().length());
+        List<Suggestion> suggestions = values
+                .distinct()
+                .map(v -> toSuggestion(v, range, tooltip))
+                .sorted(Suggestion::compareToIgnoreCase)
+                .limit(limit)
+                .collect(Collectors.toList());
+        return new Suggestions(range, suggestions);
     }
 
     private static @NotNull Suggestion toSuggestion(
             @NotNull String value,
-            @NotNull SuggestionsBuilder builder,
+            @NotNull StringRange range,
             @Nullable Message tooltip
     ) {
-        try {
-            int intValue = Integer.parseInt(value);
-            return new IntegerSuggestion(
-                    StringRange.between(builder.getStart(), builder.getInput().length()), intValue, tooltip
-            );
-        } catch (NumberFormatException e) {
-            return new Suggestion(
-                    StringRange.between(builder.getStart(), builder.getInput().length()), value, tooltip
-            );
+        if (isInteger(value))
+            return new IntegerSuggestion(range, Integer.parseInt(value), tooltip);
+        return new Suggestion(range, value, tooltip);
+    }
+
+    /**
+     * Tests whether the given value is an integer in its canonical form,
+     * i.e. one that {@link IntegerSuggestion} displays exactly as-is.
+     */
+    private static boolean isInteger(@NotNull String value) {
+        int length = value.length();
+        int start = length > 1 && value.charAt(0) == '-' ? 1 : 0;
+        int digits = length - start;
+        if (digits == 0 || digits > 10)
+            return false;
+        // leading zeros and negative zero
+        if (value.charAt(start) == '0' && (digits > 1 || start == 1))
+            return false;
+        for (int i = start; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9')
+                return false;
         }
+        if (digits < 10)
+            return true;
+        long number = Long.parseLong(value);
+        return number >= Integer.MIN_VALUE && number <= Integer.MAX_VALUE;
     }
 
     /**
@@ -165,6 +213,40 @@ public final class BrigadierAdapter {
         return new BrigadierParameterType<>(argumentType);
     }
 
+    /**
+     * Adds the given node to the parent node. Like {@link CommandNode#addChild(CommandNode)},
+     * a node that has the same name as an existing child is merged into it.
+     * <p>
+     * The flags of nodes created by {@link BrigadierParser#createNode(ExecutableCommand)}
+     * redirect to the node that precedes them. If that node is merged into an existing
+     * one, the redirects are updated to point to the node that remains in the tree,
+     * as clients drop redirects to nodes outside of it.
+     *
+     * @param parent The node to add to
+     * @param node   The node to add
+     * @param <S>    The Brigadier sender type
+     */
+    public static <S> void addChild(@NotNull CommandNode<S> parent, @NotNull CommandNode<S> node) {
+        parent.addChild(node);
+        CommandNode<S> merged = parent.getChild(node.getName());
+        if (merged != node)
+            Nodes.retargetRedirects(node, merged);
+    }
+
+    /**
+     * Updates the redirects in the tree of {@code to} that point to nodes in the
+     * tree of {@code from}, so that they point to the equivalent nodes of {@code to}.
+     * This should be used when a node is copied, for example to rename it.
+     *
+     * @param from The node that has been copied
+     * @param to   The copy
+     * @param <S>  The Brigadier sender type
+     * @see #addChild(CommandNode, CommandNode)
+     */
+    public static <S> void retargetRedirects(@NotNull CommandNode<S> from, @NotNull CommandNode<S> to) {
+        Nodes.retargetRedirects(from, to);
+    }
+
     /**
      * A {@link ParameterType} that wraps a Brigadier {@link ArgumentType}
      */
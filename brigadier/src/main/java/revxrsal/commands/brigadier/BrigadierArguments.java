@@ -0,0 +1,105 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.brigadier;
+
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.context.ParsedCommandNode;
+import com.mojang.brigadier.context.StringRange;
+import com.mojang.brigadier.tree.ArgumentCommandNode;
+import com.mojang.brigadier.tree.CommandNode;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import revxrsal.commands.command.CommandActor;
+import revxrsal.commands.node.ParameterNode;
+import revxrsal.commands.node.ParsedArguments;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static revxrsal.commands.node.DispatcherSettings.LONG_FORMAT_PREFIX;
+import static revxrsal.commands.util.Classes.wrap;
+
+/**
+ * A {@link ParsedArguments} that reads the arguments Brigadier parsed
+ * into a {@link CommandContext}.
+ * <p>
+ * Values of native argument types (such as integers) are passed to Lamp
+ * as-is. Parameters whose types are adapted to a string argument
+ * are parsed by Lamp, but only from their own part of the input.
+ *
+ * @param <S> The command source type
+ * @param <A> The actor type
+ */
+final class BrigadierArguments<S, A extends CommandActor> implements ParsedArguments<A> {
+
+    private final @NotNull CommandContext<S> context;
+    private final @NotNull Map<String, StringRange> arguments = new HashMap<>();
+    private final @NotNull Map<String, CommandContext<S>> argumentContexts = new HashMap<>();
+    private final @NotNull Set<String> literals = new HashSet<>();
+
+    BrigadierArguments(@NotNull CommandContext<S> context) {
+        this.context = context;
+        // nodes after a redirect, such as optional flags, are in child contexts
+        for (CommandContext<S> c = context; c != null; c = c.getChild()) {
+            for (ParsedCommandNode<S> parsed : c.getNodes()) {
+                CommandNode<S> node = parsed.getNode();
+                if (node instanceof ArgumentCommandNode) {
+                    arguments.put(node.getName(), parsed.getRange());
+                    argumentContexts.put(node.getName(), c);
+                } else {
+                    literals.add(node.getName());
+                }
+            }
+        }
+    }
+
+    @Override
+    public @Nullable String input(@NotNull ParameterNode<A, ?> parameter) {
+        if (parameter.isSwitch()) {
+            String literal = LONG_FORMAT_PREFIX + parameter.switchName();
+            return literals.contains(literal) ? literal : null;
+        }
+        StringRange range = arguments.get(parameter.name());
+        // contexts created for suggestions may be built from a truncated input
+        if (range == null || range.getEnd() > context.getInput().length())
+            return null;
+        return range.get(context.getInput());
+    }
+
+    @Override
+    public boolean hasValue(@NotNull ParameterNode<A, ?> parameter) {
+        if (input(parameter) == null)
+            return false;
+        Object value = value(parameter);
+        // string arguments are only adapters for Lamp's own parameter types
+        return !(value instanceof String) && wrap(parameter.type()).isInstance(value);
+    }
+
+    @Override
+    public @Nullable Object value(@NotNull ParameterNode<A, ?> parameter) {
+        return argumentContexts.get(parameter.name()).getArgument(parameter.name(), Object.class);
+    }
+}
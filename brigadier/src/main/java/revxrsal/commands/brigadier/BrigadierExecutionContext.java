@@ -0,0 +1,143 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.brigadier;
+
+import com.mojang.brigadier.context.CommandContext;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnmodifiableView;
+import revxrsal.commands.Lamp;
+import revxrsal.commands.command.CommandActor;
+import revxrsal.commands.command.ExecutableCommand;
+import revxrsal.commands.node.ExecutionContext;
+import revxrsal.commands.node.ParameterNode;
+import revxrsal.commands.stream.StringStream;
+import revxrsal.commands.util.Classes;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static revxrsal.commands.util.Preconditions.notNull;
+
+/**
+ * An {@link ExecutionContext} that resolves arguments lazily from the
+ * arguments Brigadier has already parsed into a {@link CommandContext}.
+ * <p>
+ * This is used for suggestions, where providers typically read a few
+ * arguments (if any), so resolving every argument up-front would be
+ * wasteful. Arguments that fail to resolve are {@code null}.
+ *
+ * @param <S> The command source type
+ * @param <A> The actor type
+ */
+final class BrigadierExecutionContext<S, A extends CommandActor> implements ExecutionContext<A> {
+
+    private final @NotNull ExecutableCommand<A> command;
+    private final @NotNull A actor;
+    private final @NotNull StringStream input;
+    private final @NotNull BrigadierArguments<S, A> arguments;
+    private final @NotNull Map<String, Object> resolved = new LinkedHashMap<>();
+
+    BrigadierExecutionContext(
+            @NotNull ExecutableCommand<A> command,
+            @NotNull A actor,
+            @NotNull StringStream input,
+            @NotNull CommandContext<S> context
+    ) {
+        this.command = command;
+        this.actor = actor;
+        this.input = input;
+        this.arguments = new BrigadierArguments<>(context);
+    }
+
+    @Override public @NotNull A actor() {
+        return actor;
+    }
+
+    @Override public @NotNull Lamp<A> lamp() {
+        return command.lamp();
+    }
+
+    @Override public @NotNull ExecutableCommand<A> command() {
+        return command;
+    }
+
+    @Override public @NotNull StringStream input() {
+        return input;
+    }
+
+    @Override public @NotNull @UnmodifiableView Map<String, Object> resolvedArguments() {
+        if (resolved.size() != command.parameters().size()) {
+            for (ParameterNode<A, Object> parameter : command.parameters().values())
+                resolve(parameter);
+        }
+        return Collections.unmodifiableMap(resolved);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> @Nullable T getResolvedArgumentOrNull(@NotNull String argumentName) {
+        notNull(argumentName, "argument name");
+        ParameterNode<A, Object> parameter = command.parameters().get(argumentName);
+        if (parameter == null)
+            return null;
+        return (T) resolve(parameter);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> @Nullable T getResolvedArgumentOrNull(@NotNull Class<T> argumentType) {
+        notNull(argumentType, "argument type");
+        argumentType = Classes.wrap(argumentType);
+        for (Object value : resolvedArguments().values()) {
+            if (value == null)
+                continue;
+            if (argumentType.isAssignableFrom(value.getClass()))
+                return (T) value;
+        }
+        return null;
+    }
+
+    private @Nullable Object resolve(@NotNull ParameterNode<A, Object> parameter) {
+        if (resolved.containsKey(parameter.name()))
+            return resolved.get(parameter.name());
+        // guards against parameter types that read their own argument
+        resolved.put(parameter.name(), null);
+        Object value = null;
+        String parameterInput = arguments.input(parameter);
+        if (parameter.isSwitch()) {
+            value = parameterInput != null;
+        } else if (parameterInput != null && arguments.hasValue(parameter)) {
+            value = arguments.value(parameter);
+        } else {
+            try {
+                value = parameter.parse(StringStream.createMutable(parameterInput == null ? "" : parameterInput), this);
+            } catch (Throwable ignored) {
+            }
+        }
+        resolved.put(parameter.name(), value);
+        return value;
+    }
+}
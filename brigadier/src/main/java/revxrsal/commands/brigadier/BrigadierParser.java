@@ -24,11 +24,13 @@
 package revxrsal.commands.brigadier;
 
 import com.mojang.brigadier.Command;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
 import com.mojang.brigadier.builder.RequiredArgumentBuilder;
 import com.mojang.brigadier.suggestion.SuggestionProvider;
 import com.mojang.brigadier.tree.ArgumentCommandNode;
 import com.mojang.brigadier.tree.CommandNode;
 import com.mojang.brigadier.tree.LiteralCommandNode;
+import com.mojang.brigadier.tree.RootCommandNode;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
@@ -40,7 +42,6 @@ import revxrsal.commands.node.ParameterNode;
 import revxrsal.commands.stream.MutableStringStream;
 import revxrsal.commands.stream.StringStream;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -57,11 +58,22 @@ public final class BrigadierParser<S, A extends CommandActor> {
 
     /**
      * Creates a Brigadier {@link CommandNode} based on the given {@link ExecutableCommand}
+     * <p>
+     * Flags and switches are children of the node of the last argument, and
+     * redirect back to it, so they can be specified in any order while the size
+     * of the tree only grows linearly with the number of flags. As Brigadier
+     * cannot tell which flags have been specified, missing required flags are
+     * reported by Lamp when the command is executed.
+     * <p>
+     * The returned node should be added to its parent with
+     * {@link BrigadierAdapter#addChild(CommandNode, CommandNode)}, so that the
+     * redirects of flags remain valid if the node is merged into an existing one.
      *
      * @param command Command to wrap
      * @return The equivalent node
      */
     public @NotNull LiteralCommandNode<S> createNode(@NotNull ExecutableCommand<A> command) {
+        Command<S> action = createAction(command);
         final BNode<S> firstNode = BNode.literal(command.firstNode().name());
         firstNode.requires(createRequirement(command.permission(), command.lamp()));
 
@@ -77,10 +89,10 @@ public final class BrigadierParser<S, A extends CommandActor> {
                 ParameterNode<A, ?> parameter = (ParameterNode<A, ?>) node;
                 if (parameter.isSwitch() || parameter.isFlag())
                     break;
-                elementNode = BNode.of(ofParameter(parameter));
+                elementNode = BNode.of(ofParameter(parameter, null));
 
                 if (parameter.isOptional())
-                    lastNode.executes(createAction(command));
+                    lastNode.executes(action);
 
             } else {
                 throw new UnsupportedOperationException(); // for completeness
@@ -88,71 +100,58 @@ public final class BrigadierParser<S, A extends CommandActor> {
             lastNode.then(elementNode);
             lastNode = elementNode;
         }
-        if (!command.containsFlags()) {
-            lastNode.executes(createAction(command));
-            return (LiteralCommandNode<S>) firstNode.asBrigadierNode();
-        }
-        List<BNode<S>> addOptionalsTo = new ArrayList<>();
-        for (ParameterNode<A, Object> parameter : command.parameters().values()) {
-            if (!parameter.isFlag() && !parameter.isSwitch()) {
-                continue;
-            }
-            if (parameter.isSwitch()) {
-                BNode<S> ofSwitch = ofSwitch(parameter);
-                if (!addOptionalsTo.isEmpty()) {
-                    addOptionalsTo.forEach(genNode -> {
-                        genNode.then(ofSwitch);
-                        genNode.executes(createAction(command));
-                    });
-                } else {
-                    lastNode.then(ofSwitch);
-                    lastNode.executes(createAction(command));
-                }
-                addOptionalsTo.add(ofSwitch);
-            } else if (parameter.isFlag()) {
-                BNode<S> ofFlag = ofFlag(parameter);
-                addOptionalsTo.forEach(genNode -> genNode.then(ofFlag));
-                if (parameter.isOptional()) {
-                    if (addOptionalsTo.isEmpty())
-                        lastNode.executes(createAction(command));
-                    else
-                        addOptionalsTo.forEach(genNode -> genNode.executes(createAction(command)));
-                }
-                lastNode.then(ofFlag);
-                addOptionalsTo.add(ofFlag.nextChild());
-                if (parameter.isRequired()) {
-                    lastNode = ofFlag.nextChild();
+        boolean requiresFlags = false;
+        if (command.containsFlags()) {
+            CommandNode<S> flags = lastNode.asBrigadierNode();
+            for (ParameterNode<A, Object> parameter : command.parameters().values()) {
+                if (parameter.isSwitch()) {
+                    lastNode.then(ofSwitch(parameter, flags).executes(action));
+                } else if (parameter.isFlag()) {
+                    BNode<S> value = BNode.of(ofParameter(parameter, flags)).executes(action);
+                    lastNode.then(flagLiteral(parameter).then(value));
+                    requiresFlags |= parameter.isRequired();
                 }
             }
         }
-        if (!addOptionalsTo.isEmpty())
-            addOptionalsTo.forEach(genNode -> genNode.executes(createAction(command)));
-        else
-            lastNode.executes(createAction(command));
+        if (!requiresFlags)
+            lastNode.executes(action);
         return (LiteralCommandNode<S>) firstNode.asBrigadierNode();
     }
 
-    private @NotNull <T> ArgumentCommandNode<S, T> ofParameter(ParameterNode<A, T> parameter) {
+    /**
+     * Creates the argument node of the given parameter
+     *
+     * @param parameter The parameter
+     * @param redirect  The node to redirect to after the argument, if any
+     * @return The argument node
+     */
+    private @NotNull <T> ArgumentCommandNode<S, T> ofParameter(
+            @NotNull ParameterNode<A, T> parameter,
+            @Nullable CommandNode<S> redirect
+    ) {
         @SuppressWarnings("unchecked")
         RequiredArgumentBuilder<S, T> builder = (RequiredArgumentBuilder<S, T>) RequiredArgumentBuilder
                 .argument(parameter.name(), converter.getArgumentType(parameter));
+        if (redirect != null)
+            builder.redirect(redirect);
         return builder
                 .suggests(createSuggestionProvider(parameter))
                 .requires(createRequirement(parameter.permission(), parameter.lamp()))
                 .build();
     }
 
-    private <T> BNode<S> ofFlag(ParameterNode<A, T> parameter) {
-        ArgumentCommandNode<S, T> ofParameter = ofParameter(parameter);
-        return BNode.<S>literal(LONG_FORMAT_PREFIX + parameter.flagName()).then(ofParameter);
+    private @NotNull BNode<S> flagLiteral(@NotNull ParameterNode<A, ?> parameter) {
+        return BNode.literal(LONG_FORMAT_PREFIX + parameter.flagName());
     }
 
     private @NotNull BNode<S> ofSwitch(
-            @NotNull ParameterNode<A, ?> parameter
+            @NotNull ParameterNode<A, ?> parameter,
+            @NotNull CommandNode<S> redirect
     ) {
-        return BNode.<S>literal(LONG_FORMAT_PREFIX + parameter.switchName())
-                .requires(createRequirement(parameter.permission(), parameter.lamp()))
-                .executes(createAction(parameter.lamp()));
+        return BNode.of(LiteralArgumentBuilder.<S>literal(LONG_FORMAT_PREFIX + parameter.switchName())
+                        .redirect(redirect)
+                        .build())
+                .requires(createRequirement(parameter.permission(), parameter.lamp()));
     }
 
     /**
@@ -194,8 +193,12 @@ public final class BrigadierParser<S, A extends CommandActor> {
     }
 
     /**
-     * Returns a Brigadier {@link Command} action that always delegates
-     * the execution to the supplied {@link Lamp} instance.
+     * Returns a Brigadier {@link Command} action that executes the given
+     * {@link ExecutableCommand} with the arguments Brigadier has already
+     * parsed, rather than parsing and dispatching the input again.
+     * <p>
+     * Commands that are executed through a redirect (i.e. after more than one
+     * flag) are parsed by Lamp instead.
      *
      * @param command The {@link ExecutableCommand} to run
      * @return The wrapped {@link Command}
@@ -206,7 +209,13 @@ public final class BrigadierParser<S, A extends CommandActor> {
             if (input.peekUnquotedString().contains(":"))
                 input = StringStream.createMutable(stripNamespace(a.getInput()));
             A actor = converter.createActor(a.getSource(), command.lamp());
-            command.execute(actor, input);
+            if (a.getRootNode() instanceof RootCommandNode)
+                command.execute(actor, input, new BrigadierArguments<>(a));
+            else {
+                // the context of a redirect does not contain the arguments
+                // before it, so we parse the input of the command instead.
+                command.execute(actor, input);
+            }
             return Command.SINGLE_SUCCESS;
         };
     }
@@ -29,6 +29,8 @@ import com.mojang.brigadier.tree.ArgumentCommandNode;
 import com.mojang.brigadier.tree.CommandNode;
 
 import java.lang.reflect.Field;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.function.Predicate;
 
 /**
@@ -42,6 +44,9 @@ final class Nodes {
     // CommandNode#requirement
     private static final Field REQUIREMENT;
 
+    // CommandNode#redirect
+    private static final Field REDIRECT;
+
     // ArgumentCommandNode#customSuggestions
     private static final Field CUSTOM_SUGGESTIONS;
 
@@ -54,6 +59,9 @@ final class Nodes {
             REQUIREMENT = CommandNode.class.getDeclaredField("requirement");
             REQUIREMENT.setAccessible(true);
 
+            REDIRECT = CommandNode.class.getDeclaredField("redirect");
+            REDIRECT.setAccessible(true);
+
             CUSTOM_SUGGESTIONS = ArgumentCommandNode.class.getDeclaredField("customSuggestions");
             CUSTOM_SUGGESTIONS.setAccessible(true);
 
@@ -91,6 +99,52 @@ final class Nodes {
         }
     }
 
+    /**
+     * Sets the node that this node redirects to
+     *
+     * @param node     Node to set redirect for
+     * @param redirect The node to redirect to
+     */
+    public static <T> void setRedirect(CommandNode<T> node, CommandNode<T> redirect) {
+        try {
+            Nodes.REDIRECT.set(node, redirect);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Updates the redirects in the tree of {@code to} that point to nodes
+     * in the tree of {@code from}, so that they point to the equivalent
+     * nodes of {@code to}.
+     *
+     * @param from The tree that has been merged or copied
+     * @param to   The tree that {@code from} has been merged or copied into
+     */
+    public static <T> void retargetRedirects(CommandNode<T> from, CommandNode<T> to) {
+        Map<CommandNode<T>, CommandNode<T>> equivalents = new IdentityHashMap<>();
+        collectEquivalents(from, to, equivalents);
+        for (CommandNode<T> node : equivalents.values()) {
+            CommandNode<T> redirect = equivalents.get(node.getRedirect());
+            if (redirect != null && redirect != node.getRedirect())
+                setRedirect(node, redirect);
+        }
+    }
+
+    private static <T> void collectEquivalents(
+            CommandNode<T> from,
+            CommandNode<T> to,
+            Map<CommandNode<T>, CommandNode<T>> equivalents
+    ) {
+        if (equivalents.putIfAbsent(from, to) != null)
+            return;
+        for (CommandNode<T> child : from.getChildren()) {
+            CommandNode<T> equivalent = to.getChild(child.getName());
+            if (equivalent != null)
+                collectEquivalents(child, equivalent, equivalents);
+        }
+    }
+
     /**
      * Sets the suggestions of this node
      *
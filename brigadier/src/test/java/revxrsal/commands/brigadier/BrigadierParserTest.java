@@ -0,0 +1,163 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.brigadier;
+
+import com.mojang.brigadier.arguments.ArgumentType;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.tree.CommandNode;
+import com.mojang.brigadier.tree.LiteralCommandNode;
+import com.mojang.brigadier.tree.RootCommandNode;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import revxrsal.commands.Lamp;
+import revxrsal.commands.annotation.Command;
+import revxrsal.commands.annotation.Flag;
+import revxrsal.commands.annotation.Optional;
+import revxrsal.commands.annotation.Switch;
+import revxrsal.commands.command.CommandActor;
+import revxrsal.commands.command.ExecutableCommand;
+import revxrsal.commands.node.ParameterNode;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BrigadierParserTest {
+
+    public static final class Commands {
+
+        @Command("one")
+        public void one(CommandActor actor, @Switch("a") boolean a) {}
+
+        @Command("four")
+        public void four(
+                CommandActor actor,
+                @Switch("a") boolean a,
+                @Switch("b") boolean b,
+                @Flag("c") @Optional String c,
+                @Flag("d") @Optional String d
+        ) {}
+
+        @Command("eight")
+        public void eight(
+                CommandActor actor,
+                @Switch("a") boolean a,
+                @Switch("b") boolean b,
+                @Switch("c") boolean c,
+                @Switch("d") boolean d,
+                @Flag("e") @Optional String e,
+                @Flag("f") @Optional String f,
+                @Flag("g") @Optional String g,
+                @Flag("h") @Optional String h
+        ) {}
+
+        @Command("required")
+        public void required(CommandActor actor, @Flag("a") String a, @Flag("b") @Optional String b) {}
+
+        @Command("merged")
+        public void merged(CommandActor actor, @Switch("a") boolean a) {}
+
+        @Command("merged")
+        public void merged(CommandActor actor, @Flag("b") String b) {}
+    }
+
+    private static final class Converter implements BrigadierConverter<CommandActor, Object> {
+
+        @Override public @NotNull ArgumentType<?> getArgumentType(@NotNull ParameterNode<CommandActor, ?> parameter) {
+            return StringArgumentType.word();
+        }
+
+        @Override public @NotNull CommandActor createActor(@NotNull Object sender, @NotNull Lamp<CommandActor> lamp) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private final BrigadierParser<Object, CommandActor> parser = new BrigadierParser<>(new Converter());
+
+    private final List<ExecutableCommand<CommandActor>> commands = Lamp.<CommandActor>builder()
+            .build()
+            .register(new Commands());
+
+    private List<LiteralCommandNode<Object>> nodesOf(String name) {
+        List<LiteralCommandNode<Object>> nodes = new ArrayList<>();
+        for (ExecutableCommand<CommandActor> command : commands) {
+            if (command.firstNode().name().equals(name))
+                nodes.add(parser.createNode(command));
+        }
+        return nodes;
+    }
+
+    private static Set<CommandNode<Object>> treeOf(CommandNode<Object> node) {
+        Set<CommandNode<Object>> tree = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<CommandNode<Object>> queue = new ArrayDeque<>();
+        queue.add(node);
+        while (!queue.isEmpty()) {
+            CommandNode<Object> next = queue.poll();
+            if (tree.add(next))
+                queue.addAll(next.getChildren());
+        }
+        return tree;
+    }
+
+    @Test
+    void treeGrowsLinearlyWithFlags() {
+        // the literal, a node for every switch, and two nodes for every flag
+        assertEquals(2, treeOf(nodesOf("one").get(0)).size());
+        assertEquals(7, treeOf(nodesOf("four").get(0)).size());
+        assertEquals(13, treeOf(nodesOf("eight").get(0)).size());
+    }
+
+    @Test
+    void flagsRedirectToTheLastArgument() {
+        LiteralCommandNode<Object> node = nodesOf("eight").get(0);
+        for (CommandNode<Object> child : treeOf(node)) {
+            if (child.getChildren().isEmpty())
+                assertSame(node, child.getRedirect(), child.getName());
+        }
+    }
+
+    @Test
+    void requiredFlagsCanFollowOptionalFlags() {
+        LiteralCommandNode<Object> node = nodesOf("required").get(0);
+        assertNotNull(node.getChild("--a"));
+        assertNotNull(node.getChild("--b"));
+        assertSame(node, node.getChild("--b").getChild("b").getRedirect());
+        assertNull(node.getCommand(), "executable without the required flag");
+    }
+
+    @Test
+    void redirectsPointIntoTheMergedTree() {
+        RootCommandNode<Object> root = new RootCommandNode<>();
+        for (LiteralCommandNode<Object> node : nodesOf("merged"))
+            BrigadierAdapter.addChild(root, node);
+        CommandNode<Object> merged = root.getChild("merged");
+        Set<CommandNode<Object>> tree = treeOf(root);
+        for (CommandNode<Object> node : tree) {
+            if (node.getRedirect() != null)
+                assertSame(merged, node.getRedirect(), node.getName());
+        }
+        assertNotNull(merged.getChild("--a"));
+        assertNotNull(merged.getChild("--b"));
+    }
+}
@@ -32,9 +32,10 @@ subprojects {
     apply(plugin = "java")
 
     val isExample = project.path.startsWith(":example")
+    val isPublished = !isExample && project.path != ":benchmarks"
 
 
-    if (!isExample)
+    if (isPublished)
         apply(plugin = "com.vanniktech.maven.publish")
 
     java {
@@ -43,7 +44,7 @@ subprojects {
         }
     }
 
-    if (!isExample)
+    if (isPublished)
         mavenPublishing {
             coordinates(
                 groupId = group as String,
@@ -28,6 +28,7 @@ import com.mojang.brigadier.tree.LiteralCommandNode;
 import com.mojang.brigadier.tree.RootCommandNode;
 import org.bukkit.command.CommandSender;
 import org.jetbrains.annotations.NotNull;
+import revxrsal.commands.brigadier.BrigadierAdapter;
 import revxrsal.commands.bukkit.util.BukkitVersion;
 
 import java.lang.reflect.Field;
@@ -96,6 +97,7 @@ final class BrigadierUtil {
         for (CommandNode<S> child : node.getChildren()) {
             clone.addChild(child);
         }
+        BrigadierAdapter.retargetRedirects(node, clone);
         return clone;
     }
 
@@ -37,6 +37,7 @@ import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.NotNull;
 import revxrsal.commands.Lamp;
+import revxrsal.commands.brigadier.BrigadierAdapter;
 import revxrsal.commands.brigadier.BrigadierConverter;
 import revxrsal.commands.brigadier.BrigadierParser;
 import revxrsal.commands.brigadier.types.ArgumentTypes;
@@ -105,7 +106,7 @@ final class ByPaperEvents<A extends BukkitCommandActor> implements BukkitBrigadi
 
         for (String alias : aliases) {
             if (node.getLiteral().equals(alias)) {
-                rootNode.addChild(node);
+                BrigadierAdapter.addChild(rootNode, node);
             } else {
                 LiteralCommandNode<Object> redirectNode = literal(alias)
                         .redirect(node)
@@ -35,6 +35,7 @@ import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.NotNull;
 import revxrsal.commands.Lamp;
+import revxrsal.commands.brigadier.BrigadierAdapter;
 import revxrsal.commands.brigadier.BrigadierConverter;
 import revxrsal.commands.brigadier.BrigadierParser;
 import revxrsal.commands.brigadier.types.ArgumentTypes;
@@ -83,7 +84,7 @@ final class ByPaperLifecycle<A extends BukkitCommandActor> implements BukkitBrig
 
     @Override public void register(ExecutableCommand<A> command) {
         LiteralCommandNode<CommandSourceStack> node = parser.createNode(command);
-        root.addChild(node);
+        BrigadierAdapter.addChild(root, node);
     }
 
     @Override public @NotNull ArgumentType<?> getArgumentType(@NotNull ParameterNode<A, ?> parameter) {
@@ -41,6 +41,7 @@ import org.bukkit.event.server.ServerLoadEvent;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.NotNull;
 import revxrsal.commands.Lamp;
+import revxrsal.commands.brigadier.BrigadierAdapter;
 import revxrsal.commands.brigadier.BrigadierConverter;
 import revxrsal.commands.brigadier.BrigadierParser;
 import revxrsal.commands.brigadier.types.ArgumentTypes;
@@ -129,16 +130,28 @@ final class ByReflection<A extends BukkitCommandActor> implements BukkitBrigadie
         }
     }
 
+    /**
+     * Merges the given node into the registered nodes, and adds the result
+     * to the dispatcher.
+     *
+     * @param node The node to register
+     * @return The registered node, which {@code node} may have been merged into
+     */
     @SuppressWarnings({"rawtypes", "unchecked"})
-    private void register(LiteralCommandNode<Object> node) {
+    private LiteralCommandNode<Object> register(LiteralCommandNode<Object> node) {
         Objects.requireNonNull(node, "node");
 
+        // merge first, so that redirects point at the node that ends up
+        // in the dispatcher
+        BrigadierAdapter.addChild(registeredNodes, node);
+        LiteralCommandNode<Object> registered = (LiteralCommandNode<Object>) registeredNodes.getChild(node.getName());
+
         CommandDispatcher dispatcher = getDispatcher();
         RootCommandNode root = dispatcher.getRoot();
 
-        BrigadierUtil.removeChild(root, node.getName());
-        root.addChild(node);
-        registeredNodes.addChild(node);
+        BrigadierUtil.removeChild(root, registered.getName());
+        root.addChild(registered);
+        return registered;
     }
 
     @Override public void register(ExecutableCommand<A> command) {
@@ -151,12 +164,12 @@ final class ByReflection<A extends BukkitCommandActor> implements BukkitBrigadie
             node = renameLiteralNode(node, command.firstNode().name());
         }
 
+        LiteralCommandNode<Object> target = node;
+        if (aliases.contains(node.getLiteral()))
+            target = register(node);
         for (String alias : aliases) {
-            if (node.getLiteral().equals(alias)) {
-                register(node);
-            } else {
-                register(LiteralArgumentBuilder.literal(alias).redirect(node).build());
-            }
+            if (!node.getLiteral().equals(alias))
+                register(LiteralArgumentBuilder.literal(alias).redirect(target).build());
         }
         plugin.getServer().getPluginManager().registerEvents(new CommandDataSendListener(bCommand), plugin);
     }
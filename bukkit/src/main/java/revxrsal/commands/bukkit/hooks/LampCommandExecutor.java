@@ -76,7 +76,9 @@ public final class LampCommandExecutor<A extends BukkitCommandActor> implements
     public @NotNull List<String> onTabComplete(@NotNull CommandSender sender, @NotNull Command command, @NotNull String alias, @NotNull String[] args) {
         A actor = actorFactory.create(sender, lamp);
         MutableStringStream input = createInput(command.getName(), args);
-        List<String> completions = lamp.autoCompleter().complete(actor, input);
+        // Bukkit needs the completions before this returns, so this blocks the calling
+        // (usually the main) thread for up to the dispatcher's suggestion timeout
+        List<String> completions = lamp.autoCompleter().completeAsync(actor, input).join();
         if (BukkitUtils.isBrigadierAvailable()) {
             return completions; // brigadier allows suggestions with spaces
         } else {
@@ -59,7 +59,10 @@ public final class AsyncPaperTabListener<A extends BukkitCommandActor> implement
         );
         A actor = actorFactory.create(event.getSender(), lamp);
         try {
-            List<String> complete = lamp.autoCompleter().complete(actor, stream);
+            // the event needs its completions before this handler returns. asynchronous
+            // suggestion providers still run in parallel, and are waited for at most
+            // the dispatcher's suggestion timeout
+            List<String> complete = lamp.autoCompleter().completeAsync(actor, stream).join();
             if (complete.isEmpty()) {
                 return;
             }
@@ -12,4 +12,7 @@ tasks {
     test {
         useJUnitPlatform()
     }
-}
\ No newline at end of file
+    compileTestJava {
+        options.compilerArgs.add("-parameters")
+    }
+}
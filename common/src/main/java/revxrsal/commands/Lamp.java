@@ -35,6 +35,9 @@ import revxrsal.commands.exception.*;
 import revxrsal.commands.exception.context.ErrorContext;
 import revxrsal.commands.hook.Hooks;
 import revxrsal.commands.ktx.KotlinFeatureRegistry;
+import revxrsal.commands.metrics.LampEvent;
+import revxrsal.commands.metrics.LampEvents;
+import revxrsal.commands.metrics.LampMetrics;
 import revxrsal.commands.node.CommandRegistry;
 import revxrsal.commands.node.DispatcherSettings;
 import revxrsal.commands.node.ParameterNamingStrategy;
@@ -54,10 +57,12 @@ import revxrsal.commands.response.ResponseHandler;
 import revxrsal.commands.response.SupplierResponseHandler;
 import revxrsal.commands.stream.MutableStringStream;
 import revxrsal.commands.stream.StringStream;
+import revxrsal.commands.util.ClassMetadata;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -94,9 +99,20 @@ public final class Lamp<A extends CommandActor> {
     private final Map<Class<?>, Supplier<Object>> dependencies;
     private final CommandExceptionHandler<A> exceptionHandler;
     private final DispatcherSettings<A> dispatcherSettings;
+    private final LampMetrics metrics;
+    private final LampEvents events;
     private final BaseCommandRegistry<A> tree;
     private final AutoCompleter<A> autoCompleter;
 
+    /**
+     * Resolvers, suggestion providers and response handlers, by the type and
+     * annotations they were created for. Factories only depend on these, so
+     * parameters of the same type share the same instances.
+     */
+    private final Map<ResolutionKey, ParameterResolver<A, ?>> resolverCache = new ConcurrentHashMap<>();
+    private final Map<ResolutionKey, SuggestionProvider<A>> suggestionProviderCache = new ConcurrentHashMap<>();
+    private final Map<ResolutionKey, ResponseHandler<A, ?>> responseHandlerCache = new ConcurrentHashMap<>();
+
     @SuppressWarnings("unchecked")
     public Lamp(Builder<A> builder) {
         this.annotationReplacers = copyMap(builder.annotationReplacers);
@@ -115,6 +131,8 @@ public final class Lamp<A extends CommandActor> {
         this.hooks = builder.hooks.build();
         this.exceptionHandler = builder.exceptionHandler;
         this.dispatcherSettings = builder.dispatcherSettings.build();
+        this.metrics = builder.metrics;
+        this.events = builder.events;
         this.tree = new BaseCommandRegistry<>(this);
         this.autoCompleter = AutoCompleter.create(this);
     }
@@ -174,8 +192,19 @@ public final class Lamp<A extends CommandActor> {
      * @return The parameter type
      * @throws IllegalStateException if no suitable parameter type was found
      */
+    @SuppressWarnings("unchecked")
     public <T> @NotNull ParameterResolver<A, T> resolver(@NotNull Type type, @NotNull AnnotationList annotations) {
-        return parameterTypes.resolver(type, annotations, this);
+        // composite factories resolve their element types while we resolve theirs,
+        // so computeIfAbsent() cannot be used here
+        ResolutionKey key = new ResolutionKey(type, annotations);
+        ParameterResolver<A, ?> resolver = resolverCache.get(key);
+        if (resolver == null) {
+            resolver = parameterTypes.resolver(type, annotations, this);
+            ParameterResolver<A, ?> existing = resolverCache.putIfAbsent(key, resolver);
+            if (existing != null)
+                resolver = existing;
+        }
+        return (ParameterResolver<A, T>) resolver;
     }
 
     /**
@@ -227,7 +256,15 @@ public final class Lamp<A extends CommandActor> {
      * @return The suggestion provider, or {@link SuggestionProvider#empty()}.
      */
     public @NotNull SuggestionProvider<A> suggestionProvider(Type type, AnnotationList annotations) {
-        return suggestionProviders.provider(type, annotations, this);
+        ResolutionKey key = new ResolutionKey(type, annotations);
+        SuggestionProvider<A> provider = suggestionProviderCache.get(key);
+        if (provider == null) {
+            provider = suggestionProviders.provider(type, annotations, this);
+            SuggestionProvider<A> existing = suggestionProviderCache.putIfAbsent(key, provider);
+            if (existing != null)
+                provider = existing;
+        }
+        return provider;
     }
 
     /**
@@ -241,7 +278,8 @@ public final class Lamp<A extends CommandActor> {
      * @return The suggestion provider, or {@link SuggestionProvider#empty()}.
      */
     public @NotNull SuggestionProvider<A> suggestionProvider(CommandParameter parameter) {
-        return suggestionProviders.provider(parameter, this);
+        notNull(parameter, "parameter");
+        return suggestionProvider(parameter.fullType(), parameter.annotations());
     }
 
     /**
@@ -270,12 +308,25 @@ public final class Lamp<A extends CommandActor> {
      * @param annotations The annotations to pass to factories
      * @return The suggestion provider, or {@link SuggestionProvider#empty()}.
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
+    @SuppressWarnings("unchecked")
     public <T> @NotNull ResponseHandler<A, T> responseHandler(@NotNull Type type, @NotNull AnnotationList annotations) {
+        ResolutionKey key = new ResolutionKey(type, annotations);
+        ResponseHandler<A, ?> handler = responseHandlerCache.get(key);
+        if (handler == null) {
+            handler = createResponseHandler(type, annotations);
+            ResponseHandler<A, ?> existing = responseHandlerCache.putIfAbsent(key, handler);
+            if (existing != null)
+                handler = existing;
+        }
+        return (ResponseHandler<A, T>) handler;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private @NotNull ResponseHandler<A, ?> createResponseHandler(@NotNull Type type, @NotNull AnnotationList annotations) {
         for (ResponseHandler.Factory<? super A> responseHandler : responseHandlers) {
             ResponseHandler<A, Object> handler = responseHandler.create(type, annotations, ((Lamp) this));
             if (handler != null)
-                return (ResponseHandler<A, T>) handler;
+                return handler;
         }
         return ResponseHandler.noOp();
     }
@@ -289,25 +340,31 @@ public final class Lamp<A extends CommandActor> {
      */
     public @NotNull @Unmodifiable List<ExecutableCommand<A>> register(Object... instances) {
         List<ExecutableCommand<A>> registered = new ArrayList<>();
-        for (Object instance : instances) {
-            Class<?> commandClass = instance instanceof Class ? (Class<?>) instance : instance.getClass();
-            if (instance instanceof OrphanCommand) {
-                throw new IllegalArgumentException("You cannot register an OrphanCommand directly! " +
-                        "You must wrap it using Orphans.path(...).handler(OrphanCommand)");
-            }
-            if (instance instanceof Orphans) {
-                throw new IllegalArgumentException("You forgot to call .handler(OrphanCommand) in your Orphans.path(...)!");
-            }
-            if (instance instanceof OrphanRegistry) {
-                OrphanRegistry registry = (OrphanRegistry) instance;
-                commandClass = registry.handler().getClass();
-                instance = registry.handler();
-                registered.addAll(tree.register(commandClass, instance, registry.paths()));
+        try {
+            for (Object instance : instances) {
+                Class<?> commandClass = instance instanceof Class ? (Class<?>) instance : instance.getClass();
+                if (instance instanceof OrphanCommand) {
+                    throw new IllegalArgumentException("You cannot register an OrphanCommand directly! " +
+                            "You must wrap it using Orphans.path(...).handler(OrphanCommand)");
+                }
+                if (instance instanceof Orphans) {
+                    throw new IllegalArgumentException("You forgot to call .handler(OrphanCommand) in your Orphans.path(...)!");
+                }
+                if (instance instanceof OrphanRegistry) {
+                    OrphanRegistry registry = (OrphanRegistry) instance;
+                    commandClass = registry.handler().getClass();
+                    instance = registry.handler();
+                    registered.addAll(tree.createCommands(commandClass, instance, registry.paths()));
+                    continue;
+                }
+
+                registered.addAll(tree.createCommands(commandClass, instance, null));
             }
-
-            registered.addAll(tree.register(commandClass, instance));
+        } finally {
+            // sort the registry once, rather than after every single command
+            tree.addAll(registered);
         }
-        return registered;
+        return copyList(registered);
     }
 
     /**
@@ -450,6 +507,32 @@ public final class Lamp<A extends CommandActor> {
         return validators;
     }
 
+    /**
+     * Returns the {@link ParameterValidator}s that apply to parameters
+     * of the given type. Validators that were registered for an unrelated
+     * type are left out.
+     *
+     * @param type The parameter type
+     * @return The parameter validators
+     * @see Builder#parameterValidator(Class, ParameterValidator)
+     */
+    @SuppressWarnings("unchecked")
+    @ApiStatus.Internal
+    public @Unmodifiable @NotNull List<ParameterValidator<A, Object>> parameterValidators(@NotNull Class<?> type) {
+        Class<?> wrapped = wrap(type);
+        List<ParameterValidator<A, Object>> applicable = new ArrayList<>();
+        for (ParameterValidator<A, Object> validator : validators) {
+            if (validator instanceof TypedParameterValidator) {
+                TypedParameterValidator<A> typed = (TypedParameterValidator<A>) validator;
+                if (typed.type.isAssignableFrom(wrapped))
+                    applicable.add(typed.validator);
+            } else {
+                applicable.add(validator);
+            }
+        }
+        return copyList(applicable);
+    }
+
     /**
      * Returns the dependency that corresponds to the given type, otherwise
      * throws an {@link IllegalStateException}
@@ -507,21 +590,38 @@ public final class Lamp<A extends CommandActor> {
      */
     public void handleException(@NotNull Throwable throwable, @NotNull ErrorContext<A> errorContext) {
         notNull(throwable, "throwable");
+        if (metrics.isEnabled())
+            metrics.recordFailure(throwable);
+        LampEvent event = events.exceptionHandling();
         try {
             if (throwable instanceof SelfHandledException) {
                 //noinspection unchecked
                 SelfHandledException<A> she = (SelfHandledException<A>) throwable;
                 she.handle(errorContext);
             }
-            if (throwable.getClass().isAnnotationPresent(ThrowableFromCommand.class)) {
+            if (ClassMetadata.of(throwable.getClass()).isThrowableFromCommand()) {
                 exceptionHandler.handleException(throwable, errorContext);
             } else {
                 dispatcherSettings.stackTraceSanitizer().sanitize(throwable);
                 exceptionHandler.handleException(new CommandInvocationException(throwable), errorContext);
             }
         } catch (Throwable t) {
+            commitExceptionHandling(event, throwable, errorContext, LampEvent.FAILURE);
             throw new IllegalStateException("The CommandExceptionHandler threw an exception", t);
         }
+        commitExceptionHandling(event, throwable, errorContext, LampEvent.SUCCESS);
+    }
+
+    private static void commitExceptionHandling(
+            @NotNull LampEvent event,
+            @NotNull Throwable throwable,
+            @NotNull ErrorContext<?> errorContext,
+            @NotNull String outcome
+    ) {
+        if (event.shouldCommit()) {
+            String command = errorContext.hasExecutionContext() ? errorContext.context().command().path() : null;
+            event.commit(errorContext.actor().name(), command, throwable.getClass().getName(), outcome);
+        }
     }
 
     /**
@@ -573,6 +673,29 @@ public final class Lamp<A extends CommandActor> {
         return dispatcherSettings;
     }
 
+    /**
+     * Returns the {@link LampMetrics} that receive the timings of
+     * dispatching, parsing, completing and executing commands.
+     *
+     * @return The metrics
+     * @see Builder#metrics(LampMetrics)
+     */
+    public @NotNull LampMetrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * Returns the {@link LampEvents} that create timed events for
+     * dispatching, parsing, suggesting and handling responses and
+     * exceptions.
+     *
+     * @return The events
+     * @see Builder#events(LampEvents)
+     */
+    public @NotNull LampEvents events() {
+        return events;
+    }
+
     /**
      * Accepts the given visitor by calling {@link LampVisitor#visit(Lamp)} on
      * this {@link Lamp} instance
@@ -602,6 +725,8 @@ public final class Lamp<A extends CommandActor> {
         private MessageSender<? super A, String> messageSender = CommandActor::sendRawMessage;
         private MessageSender<? super A, String> errorSender = CommandActor::sendRawError;
         private CommandExceptionHandler<A> exceptionHandler = new DefaultExceptionHandler<>();
+        private LampMetrics metrics = LampMetrics.noop();
+        private LampEvents events = LampEvents.none();
         private ParameterNamingStrategy namingStrategy = ParameterNamingStrategy.lowerCaseWithSpace();
 
         public Builder() {
@@ -779,17 +904,11 @@ public final class Lamp<A extends CommandActor> {
          * @return This builder instance
          * @see ParameterValidator
          */
-        @SuppressWarnings("rawtypes")
+        @SuppressWarnings({"rawtypes", "unchecked"})
         public <T> Builder<A> parameterValidator(Class<T> type, @NotNull ParameterValidator<? super A, T> validator) {
             notNull(type, "type");
             notNull(validator, "parameter validator");
-            Class<?> wrapped = wrap(type);
-            validators.add((actor, value, parameter, lamp) -> {
-                if (!wrapped.isAssignableFrom(wrap(parameter.type())))
-                    return;
-                //noinspection unchecked
-                validator.validate(actor, (T) value, ((ParameterNode) parameter), (Lamp) lamp);
-            });
+            validators.add(new TypedParameterValidator<>(wrap(type), (ParameterValidator) validator));
             return this;
         }
 
@@ -886,6 +1005,35 @@ public final class Lamp<A extends CommandActor> {
             return this;
         }
 
+        /**
+         * Sets the {@link LampMetrics} that receive the timings of dispatching,
+         * parsing, completing and executing commands. By default, this is
+         * {@link LampMetrics#noop()}.
+         *
+         * @param metrics The metrics
+         * @return This builder
+         * @see LampMetrics#inMemory()
+         */
+        public Builder<A> metrics(@NotNull LampMetrics metrics) {
+            notNull(metrics, "metrics");
+            this.metrics = metrics;
+            return this;
+        }
+
+        /**
+         * Sets the {@link LampEvents} that create timed events for dispatching,
+         * parsing, suggesting and handling responses and exceptions. By default,
+         * this is {@link LampEvents#none()}.
+         *
+         * @param events The events
+         * @return This builder
+         */
+        public Builder<A> events(@NotNull LampEvents events) {
+            notNull(events, "events");
+            this.events = events;
+            return this;
+        }
+
         /**
          * Registers the given dependency as an object
          *
@@ -969,4 +1117,55 @@ public final class Lamp<A extends CommandActor> {
             return new Lamp<>(this);
         }
     }
+
+    /**
+     * A {@link ParameterValidator} that only validates parameters whose
+     * type is a subtype of {@link #type}.
+     */
+    private static final class TypedParameterValidator<A extends CommandActor> implements ParameterValidator<A, Object> {
+
+        private final Class<?> type;
+        private final ParameterValidator<A, Object> validator;
+
+        private TypedParameterValidator(Class<?> type, ParameterValidator<A, Object> validator) {
+            this.type = type;
+            this.validator = validator;
+        }
+
+        @Override
+        public void validate(@NotNull A actor, Object value, @NotNull ParameterNode<A, Object> parameter, @NotNull Lamp<A> lamp) {
+            if (type.isAssignableFrom(wrap(parameter.type())))
+                validator.validate(actor, value, parameter, lamp);
+        }
+    }
+
+    /**
+     * The key of the resolution caches. Annotation lists are compared by
+     * their contents.
+     */
+    private static final class ResolutionKey {
+
+        private final Type type;
+        private final AnnotationList annotations;
+        private final int hash;
+
+        private ResolutionKey(@NotNull Type type, @NotNull AnnotationList annotations) {
+            this.type = notNull(type, "type");
+            this.annotations = notNull(annotations, "annotations");
+            this.hash = 31 * type.hashCode() + annotations.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ResolutionKey)) return false;
+            ResolutionKey that = (ResolutionKey) o;
+            return hash == that.hash && type.equals(that.type) && annotations.equals(that.annotations);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
@@ -44,6 +44,9 @@ import java.util.function.Supplier;
  * Represents an immutable collection of annotations. This interface
  * provides utility methods for dealing with annotations, while respecting
  * {@link DistributeOnMethods} and {@link AnnotationReplacer}s.
+ * <p>
+ * Two annotation lists are equal if they contain equal annotations,
+ * regardless of the elements they were created from.
  */
 public interface AnnotationList extends Iterable<Annotation> {
 
@@ -45,6 +45,11 @@ final class AnnotationListFromMap implements AnnotationList {
 
     private final Map<Class<? extends Annotation>, Annotation> annotations;
 
+    /**
+     * The cached hash code, as annotations compute theirs on every call
+     */
+    private int hash;
+
     public AnnotationListFromMap(Map<Class<? extends Annotation>, Annotation> annotations) {
         this.annotations = annotations;
     }
@@ -196,4 +201,25 @@ final class AnnotationListFromMap implements AnnotationList {
         }
         return new AnnotationListFromMap(map);
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o instanceof AnnotationListFromMap)
+            return annotations.equals(((AnnotationListFromMap) o).annotations);
+        return o instanceof EmptyAnnotationList && annotations.isEmpty();
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = this.hash;
+        if (hash == 0)
+            this.hash = hash = annotations.hashCode();
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "AnnotationList(" + annotations.values() + ")";
+    }
 }
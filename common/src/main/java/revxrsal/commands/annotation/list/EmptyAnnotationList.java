@@ -108,4 +108,19 @@ final class EmptyAnnotationList implements AnnotationList {
     public boolean any(@NotNull Predicate<Annotation> predicate) {
         return false;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof EmptyAnnotationList || (o instanceof AnnotationListFromMap && ((AnnotationList) o).isEmpty());
+    }
+
+    @Override
+    public int hashCode() {
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        return "AnnotationList()";
+    }
 }
@@ -32,6 +32,7 @@ import revxrsal.commands.command.CommandActor;
 import revxrsal.commands.stream.StringStream;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Represents an auto-completer that provides suggestions for the
@@ -90,4 +91,50 @@ public interface AutoCompleter<A extends CommandActor> {
      * @return The completions
      */
     @NotNull List<String> complete(@NotNull A actor, @NotNull StringStream input);
+
+    /**
+     * Returns a future of the suggestions for the given input and actor.
+     * <p>
+     * Unlike {@link #complete(CommandActor, String)}, this does not block
+     * on {@link AsyncSuggestionProvider}s. They are all started at once and
+     * run in parallel, and providers that take longer than
+     * {@link revxrsal.commands.node.DispatcherSettings#suggestionTimeout()}
+     * contribute no suggestions.
+     * <p>
+     * Callers that {@link CompletableFuture#join() join} the returned future, for
+     * example because their platform needs the suggestions before returning, block
+     * for up to {@link revxrsal.commands.node.DispatcherSettings#suggestionTimeout()}
+     * when a provider is slow. On such platforms, the timeout should be kept short.
+     *
+     * @param actor The actor to supply for
+     * @param input The input to parse with
+     * @return The completions
+     */
+    default @NotNull CompletableFuture<List<String>> completeAsync(@NotNull A actor, @NotNull String input) {
+        return completeAsync(actor, StringStream.create(input));
+    }
+
+    /**
+     * Returns a future of the suggestions for the given input and actor.
+     * <p>
+     * Unlike {@link #complete(CommandActor, StringStream)}, this does not block
+     * on {@link AsyncSuggestionProvider}s. They are all started at once and
+     * run in parallel, and providers that take longer than
+     * {@link revxrsal.commands.node.DispatcherSettings#suggestionTimeout()}
+     * contribute no suggestions.
+     * <p>
+     * Callers that {@link CompletableFuture#join() join} the returned future, for
+     * example because their platform needs the suggestions before returning, block
+     * for up to {@link revxrsal.commands.node.DispatcherSettings#suggestionTimeout()}
+     * when a provider is slow. On such platforms, the timeout should be kept short.
+     * <p>
+     * By default, this completes synchronously.
+     *
+     * @param actor The actor to supply for
+     * @param input The input to parse with
+     * @return The completions
+     */
+    default @NotNull CompletableFuture<List<String>> completeAsync(@NotNull A actor, @NotNull StringStream input) {
+        return CompletableFuture.completedFuture(complete(actor, input));
+    }
 }
@@ -0,0 +1,239 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.autocomplete;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import revxrsal.commands.command.CommandActor;
+import revxrsal.commands.command.CommandPermission;
+import revxrsal.commands.command.ExecutableCommand;
+import revxrsal.commands.node.CommandNode;
+import revxrsal.commands.node.LiteralNode;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A bounded cache for the completions of inputs that only consist of
+ * literals, such as {@code foo ba}.
+ * <p>
+ * The completions of such inputs only depend on the registered commands
+ * and on which of their permissions the actor has. Completions are therefore
+ * keyed by the input and by a fingerprint of the actor's permissions, so that
+ * actors with the same permissions share the same entries. Inputs that may
+ * complete a parameter are never stored, so free-text input does not evict
+ * the entries of literal inputs.
+ * <p>
+ * All entries are tied to the list of commands they were computed from, which
+ * is an immutable snapshot of the registry. When the registry changes, the
+ * cache starts over with an empty generation.
+ * <p>
+ * Lookups do not lock, as completions are often requested concurrently by
+ * asynchronous tab-completion threads. When the cache is full, it is cleared
+ * rather than tracking the least-recently-used entry.
+ *
+ * @param <A> The actor type
+ */
+final class LiteralCompletionCache<A extends CommandActor> {
+
+    /**
+     * The maximum number of distinct permission fingerprints cached per input
+     */
+    private static final int MAXIMUM_FINGERPRINTS = 16;
+
+    private final int maximumSize;
+    private volatile Generation<A> generation = new Generation<>(null);
+
+    LiteralCompletionCache(int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Returns the cached entry of the given input, or {@code null} if the
+     * input has not been seen yet.
+     *
+     * @param commands The registered commands
+     * @param input    The input
+     * @return The entry, or {@code null}.
+     */
+    @Nullable Entry<A> get(@NotNull List<?> commands, @NotNull String input) {
+        return generation(commands).entries.get(input);
+    }
+
+    /**
+     * Caches the permissions of the given input, and returns the entry
+     * that holds its completions.
+     *
+     * @param commands    The registered commands
+     * @param input       The input
+     * @param permissions The permissions that the completions depend on. These
+     *                    must be {@link Permissions#isCacheable() cacheable}.
+     * @return The entry of the input
+     */
+    @NotNull Entry<A> put(@NotNull List<?> commands, @NotNull String input, @NotNull Permissions<A> permissions) {
+        Map<String, Entry<A>> entries = generation(commands).entries;
+        if (entries.size() >= maximumSize)
+            entries.clear();
+        Entry<A> entry = new Entry<>(permissions);
+        Entry<A> previous = entries.putIfAbsent(input, entry);
+        return previous != null ? previous : entry;
+    }
+
+    private @NotNull Generation<A> generation(@NotNull List<?> commands) {
+        Generation<A> current = generation;
+        if (current.commands != commands) {
+            // racing threads may create several generations. only one of them is kept
+            current = new Generation<>(commands);
+            generation = current;
+        }
+        return current;
+    }
+
+    private static final class Generation<A extends CommandActor> {
+
+        private final @Nullable List<?> commands;
+        private final Map<String, Entry<A>> entries = new ConcurrentHashMap<>();
+
+        private Generation(@Nullable List<?> commands) {
+            this.commands = commands;
+        }
+    }
+
+    /**
+     * The cached permissions and completions of an input
+     *
+     * @param <A> The actor type
+     */
+    static final class Entry<A extends CommandActor> {
+
+        private final Permissions<A> permissions;
+        private final Map<BitSet, List<String>> completions = new ConcurrentHashMap<>(4);
+
+        private Entry(@NotNull Permissions<A> permissions) {
+            this.permissions = permissions;
+        }
+
+        /**
+         * Returns the permissions that the completions of the input depend on
+         *
+         * @return The permissions
+         */
+        @NotNull Permissions<A> permissions() {
+            return permissions;
+        }
+
+        /**
+         * Returns the cached completions for the given fingerprint, or
+         * {@code null} if they have not been computed.
+         *
+         * @param fingerprint The actor's permissions fingerprint
+         * @return The completions, or {@code null}.
+         */
+        @Nullable List<String> completions(@NotNull BitSet fingerprint) {
+            return completions.get(fingerprint);
+        }
+
+        void putCompletions(@NotNull BitSet fingerprint, @NotNull List<String> completions) {
+            if (this.completions.size() < MAXIMUM_FINGERPRINTS)
+                this.completions.putIfAbsent(fingerprint, completions);
+        }
+    }
+
+    /**
+     * The distinct permissions of the commands that complete a certain input.
+     *
+     * @param <A> The actor type
+     */
+    static final class Permissions<A extends CommandActor> {
+
+        private static final Permissions<?> NOT_CACHEABLE = new Permissions<>(Collections.emptyList());
+
+        private final List<CommandPermission<A>> permissions;
+
+        private Permissions(@NotNull List<CommandPermission<A>> permissions) {
+            this.permissions = permissions;
+        }
+
+        /**
+         * Collects the permissions of the given candidates. If any of them
+         * would complete a parameter rather than a literal, the input
+         * cannot be cached.
+         *
+         * @param candidates The commands that complete the input
+         * @param words      The number of complete words in the input
+         * @param <A>        The actor type
+         * @return The permissions
+         */
+        @SuppressWarnings("unchecked")
+        static <A extends CommandActor> @NotNull Permissions<A> of(
+                @NotNull List<ExecutableCommand<A>> candidates,
+                int words
+        ) {
+            Set<CommandPermission<A>> permissions = new LinkedHashSet<>();
+            for (ExecutableCommand<A> candidate : candidates) {
+                if (candidate.isSecret())
+                    continue;
+                if (!startsWithLiterals(candidate, words + 1))
+                    return (Permissions<A>) NOT_CACHEABLE;
+                permissions.add(candidate.permission());
+            }
+            return new Permissions<>(new ArrayList<>(permissions));
+        }
+
+        private static boolean startsWithLiterals(@NotNull ExecutableCommand<?> command, int count) {
+            List<? extends CommandNode<?>> nodes = command.nodes();
+            if (nodes.size() < count)
+                return false;
+            for (int i = 0; i < count; i++) {
+                if (!(nodes.get(i) instanceof LiteralNode))
+                    return false;
+            }
+            return true;
+        }
+
+        /**
+         * Tests whether the completions of the input can be cached
+         *
+         * @return if the completions can be cached
+         */
+        boolean isCacheable() {
+            return this != NOT_CACHEABLE;
+        }
+
+        /**
+         * Returns a fingerprint of the permissions that the given actor has
+         *
+         * @param actor The actor
+         * @return The fingerprint
+         */
+        @NotNull BitSet fingerprint(@NotNull A actor) {
+            BitSet fingerprint = new BitSet(permissions.size());
+            for (int i = 0; i < permissions.size(); i++) {
+                if (permissions.get(i).isExecutableBy(actor))
+                    fingerprint.set(i);
+            }
+            return fingerprint;
+        }
+    }
+}
@@ -26,45 +26,122 @@ package revxrsal.commands.autocomplete;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import revxrsal.commands.Lamp;
+import revxrsal.commands.autocomplete.LiteralCompletionCache.Entry;
+import revxrsal.commands.autocomplete.LiteralCompletionCache.Permissions;
 import revxrsal.commands.command.CommandActor;
 import revxrsal.commands.command.ExecutableCommand;
+import revxrsal.commands.metrics.LampEvent;
+import revxrsal.commands.metrics.LampMetrics;
 import revxrsal.commands.node.*;
+import revxrsal.commands.node.parser.BaseCommandRegistry;
 import revxrsal.commands.stream.MutableStringStream;
 import revxrsal.commands.stream.StringStream;
+import revxrsal.commands.util.Futures;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import static revxrsal.commands.node.DispatcherSettings.LONG_FORMAT_PREFIX;
 import static revxrsal.commands.node.DispatcherSettings.SHORT_FORMAT_PREFIX;
 import static revxrsal.commands.util.Collections.*;
+import static revxrsal.commands.util.Strings.startsWithIgnoreCase;
 
 /**
  * A basic implementation of {@link AutoCompleter} that respects secret
  * commands or commands that are not accessible by the user.
  * <p>
+ * Only the commands whose literals match the input are visited. Inputs
+ * that only complete literals are cached per permission fingerprint
+ * (see {@link LiteralCompletionCache}).
+ * <p>
  * Create using {@link AutoCompleter#create(Lamp)}
  *
  * @param <A> The actor type
  */
 final class StandardAutoCompleter<A extends CommandActor> implements AutoCompleter<A> {
 
+    /**
+     * The maximum number of inputs whose literal completions are cached
+     */
+    private static final int CACHE_SIZE = 512;
+
     private final Lamp<A> lamp;
+    private final LiteralCompletionCache<A> cache = new LiteralCompletionCache<>(CACHE_SIZE);
 
     public StandardAutoCompleter(Lamp<A> lamp) {
         this.lamp = lamp;
     }
 
-    private static @NotNull List<String> filterWithSpaces(Collection<String> suggestions, String consumed) {
-        return suggestions
-                .stream()
-                .filter(suggestion -> startsWithIgnoreCase(suggestion, consumed))
-                .map(s -> getRemainingContent(s, consumed))
-                .collect(Collectors.toList());
+    /**
+     * Returns the suggestions of the given parameter that start with the
+     * given prefix. Only as many suggestions as the dispatcher settings
+     * allow are generated.
+     * <p>
+     * If {@code pending} is not null and the parameter has an {@link AsyncSuggestionProvider},
+     * the provider is not waited for. Its suggestions are stored in {@code pending}
+     * instead, and this returns an empty list.
+     */
+    @SuppressWarnings("unchecked")
+    private @NotNull List<String> suggest(
+            @NotNull ParameterNode<A, ?> parameter,
+            @NotNull ExecutionContext<A> context,
+            @NotNull String prefix,
+            @Nullable Pending pending
+    ) {
+        int limit = lamp.dispatcherSettings().maximumSuggestions();
+        SuggestionProvider<A> provider = parameter.suggestions();
+        LampEvent event = lamp.events().suggestions();
+        if (pending != null && provider instanceof AsyncSuggestionProvider) {
+            pending.suggestions = ((AsyncSuggestionProvider<A>) provider)
+                    .getSuggestionsAsync(context)
+                    .thenApply(suggestions -> suggestions.stream()
+                            .filter(s -> startsWithIgnoreCase(s, prefix))
+                            .limit(limit)
+                            .collect(Collectors.toCollection(ArrayList::new)));
+            if (event.shouldCommit())
+                pending.suggestions.whenComplete((suggestions, error) -> commit(event, parameter, context, error == null));
+            return new ArrayList<>(0);
+        }
+        List<String> suggestions = provider
+                .streamSuggestions(context, prefix, limit)
+                .limit(limit)
+                .collect(Collectors.toCollection(ArrayList::new));
+        commit(event, parameter, context, true);
+        return suggestions;
+    }
+
+    private static void commit(
+            @NotNull LampEvent event,
+            @NotNull ParameterNode<?, ?> parameter,
+            @NotNull ExecutionContext<?> context,
+            boolean successful
+    ) {
+        if (event.shouldCommit())
+            event.commit(context.actor().name(), context.command().path(), parameter.name(), LampEvent.outcome(successful));
     }
 
-    private static boolean startsWithIgnoreCase(String a, String b) {
-        return a.toLowerCase().startsWith(b.toLowerCase());
+    /**
+     * Returns the suggestions of the given parameter that start with the given
+     * prefix, which contains spaces. Only the part of each suggestion that comes
+     * after the last space of the prefix is returned.
+     */
+    private @NotNull List<String> suggestWithSpaces(
+            @NotNull ParameterNode<A, ?> parameter,
+            @NotNull ExecutionContext<A> context,
+            @NotNull String consumed,
+            @Nullable Pending pending
+    ) {
+        List<String> suggestions = suggest(parameter, context, consumed, pending);
+        suggestions.replaceAll(s -> getRemainingContent(s, consumed));
+        if (pending != null && pending.suggestions != null) {
+            pending.suggestions = pending.suggestions.thenApply(list -> {
+                list.replaceAll(s -> getRemainingContent(s, consumed));
+                return list;
+            });
+        }
+        return suggestions;
     }
 
     public static String getRemainingContent(String suggestion, String consumed) {
@@ -85,25 +162,204 @@ final class StandardAutoCompleter<A extends CommandActor> implements AutoComplet
 
     @Override
     public @NotNull List<String> complete(@NotNull A actor, @NotNull StringStream input) {
-        Set<String> suggestions = new LinkedHashSet<>();
+        LampMetrics metrics = lamp.metrics();
+        if (!metrics.isEnabled())
+            return completeCached(actor, input);
+        long start = System.nanoTime();
+        List<String> completions = completeCached(actor, input);
+        metrics.recordCompletion(completions.size(), System.nanoTime() - start);
+        return completions;
+    }
+
+    private @NotNull List<String> completeCached(@NotNull A actor, @NotNull StringStream input) {
         if (input.isEmpty())
             return Collections.emptyList();
+        CommandRegistry<A> registry = lamp.registry();
+        if (!(registry instanceof BaseCommandRegistry))
+            return complete(actor, input, registry.commands());
+        BaseCommandRegistry<A> index = (BaseCommandRegistry<A>) registry;
+
+        List<ExecutableCommand<A>> commands = index.commands();
+        Entry<A> entry = cache.get(commands, input.peekRemaining());
+        if (entry != null)
+            return completeLiterals(actor, input, index, entry, null);
+        List<ExecutableCommand<A>> candidates = index.completionCandidates(input);
+        entry = cacheEntry(commands, input, candidates);
+        if (entry == null)
+            return complete(actor, input, candidates);
+        return completeLiterals(actor, input, index, entry, candidates);
+    }
+
+    /**
+     * Completes an input that only completes literals, using the completions
+     * that are cached for the actor's permissions if there are any.
+     *
+     * @param candidates The completion candidates of the input, or {@code null}
+     *                   if they have not been computed yet.
+     */
+    private @NotNull List<String> completeLiterals(
+            @NotNull A actor,
+            @NotNull StringStream input,
+            @NotNull BaseCommandRegistry<A> index,
+            @NotNull Entry<A> entry,
+            @Nullable List<ExecutableCommand<A>> candidates
+    ) {
+        BitSet fingerprint = entry.permissions().fingerprint(actor);
+        List<String> completions = entry.completions(fingerprint);
+        if (completions == null) {
+            if (candidates == null)
+                candidates = index.completionCandidates(input);
+            completions = Collections.unmodifiableList(complete(actor, input, candidates));
+            entry.putCompletions(fingerprint, completions);
+        }
+        return new ArrayList<>(completions);
+    }
+
+    /**
+     * Creates the cache entry of the given input, or returns {@code null} if
+     * its completions cannot be cached, because the input may complete a parameter.
+     */
+    private @Nullable Entry<A> cacheEntry(
+            @NotNull List<ExecutableCommand<A>> commands,
+            @NotNull StringStream input,
+            @NotNull List<ExecutableCommand<A>> candidates
+    ) {
+        Permissions<A> permissions = Permissions.of(candidates, completeWords(input));
+        if (!permissions.isCacheable())
+            return null;
+        return cache.put(commands, input.peekRemaining(), permissions);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<List<String>> completeAsync(@NotNull A actor, @NotNull StringStream input) {
+        LampMetrics metrics = lamp.metrics();
+        if (!metrics.isEnabled())
+            return startCompletion(actor, input);
+        long start = System.nanoTime();
+        return startCompletion(actor, input).whenComplete((completions, error) -> {
+            int suggestions = completions == null ? 0 : completions.size();
+            metrics.recordCompletion(suggestions, System.nanoTime() - start);
+        });
+    }
+
+    private @NotNull CompletableFuture<List<String>> startCompletion(@NotNull A actor, @NotNull StringStream input) {
+        if (input.isEmpty())
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        CommandRegistry<A> registry = lamp.registry();
+        if (!(registry instanceof BaseCommandRegistry))
+            return completeAsync(actor, input, registry.commands());
+        BaseCommandRegistry<A> index = (BaseCommandRegistry<A>) registry;
+
+        // inputs that only complete literals never reach a suggestion provider
+        List<ExecutableCommand<A>> commands = index.commands();
+        Entry<A> entry = cache.get(commands, input.peekRemaining());
+        if (entry != null)
+            return CompletableFuture.completedFuture(completeLiterals(actor, input, index, entry, null));
+        List<ExecutableCommand<A>> candidates = index.completionCandidates(input);
+        entry = cacheEntry(commands, input, candidates);
+        if (entry == null)
+            return completeAsync(actor, input, candidates);
+        return CompletableFuture.completedFuture(completeLiterals(actor, input, index, entry, candidates));
+    }
+
+    /**
+     * Returns the number of words in the input that are followed by
+     * a space, i.e. the words that the user has finished typing.
+     */
+    private static int completeWords(@NotNull StringStream input) {
+        MutableStringStream words = input.toMutableCopy();
+        int count = 0;
+        while (words.hasRemaining()) {
+            words.readUnquotedString();
+            if (words.hasFinished())
+                break;
+            count++;
+            words.skipWhitespace();
+        }
+        return count;
+    }
+
+    private @NotNull List<String> complete(
+            @NotNull A actor,
+            @NotNull StringStream input,
+            @NotNull List<ExecutableCommand<A>> candidates
+    ) {
+        Set<String> suggestions = new LinkedHashSet<>();
         String firstWord = input.peekUnquotedString();
+        int limit = lamp.dispatcherSettings().maximumSuggestions();
 
-        for (ExecutableCommand<A> possible : lamp.registry().commands()) {
-            if (possible.isSecret())
+        for (ExecutableCommand<A> possible : candidates) {
+            if (!canComplete(possible, firstWord, actor))
                 continue;
-            if (!possible.firstNode().name().startsWith(firstWord))
-                continue;
-            if (!possible.permission().isExecutableBy(actor))
+            suggestions.addAll(complete(possible, input.toMutableCopy(), actor, null));
+            if (suggestions.size() >= limit)
+                break;
+        }
+
+        return limit(suggestions, limit);
+    }
+
+    /**
+     * Completes the input with the given candidates. Asynchronous suggestion
+     * providers are not waited for: they are all started and run in parallel,
+     * and the result is completed once they are all done. Providers that do
+     * not complete within {@link DispatcherSettings#suggestionTimeout()} do
+     * not contribute any suggestions.
+     */
+    private @NotNull CompletableFuture<List<String>> completeAsync(
+            @NotNull A actor,
+            @NotNull StringStream input,
+            @NotNull List<ExecutableCommand<A>> candidates
+    ) {
+        List<CompletableFuture<List<String>>> parts = new ArrayList<>();
+        String firstWord = input.peekUnquotedString();
+        int limit = lamp.dispatcherSettings().maximumSuggestions();
+        Duration timeout = lamp.dispatcherSettings().suggestionTimeout();
+        int available = 0;
+
+        for (ExecutableCommand<A> possible : candidates) {
+            if (!canComplete(possible, firstWord, actor))
                 continue;
-            suggestions.addAll(complete(possible, input.toMutableCopy(), actor));
+            Pending pending = new Pending();
+            List<String> suggestions = complete(possible, input.toMutableCopy(), actor, pending);
+            if (pending.suggestions != null) {
+                parts.add(Futures.withTimeout(pending.suggestions, timeout, Collections.emptyList()));
+            } else {
+                parts.add(CompletableFuture.completedFuture(suggestions));
+                available += suggestions.size();
+                if (available >= limit)
+                    break;
+            }
         }
 
-        return new ArrayList<>(suggestions);
+        return CompletableFuture.allOf(parts.toArray(new CompletableFuture<?>[0])).thenApply(v -> {
+            Set<String> suggestions = new LinkedHashSet<>();
+            for (CompletableFuture<List<String>> part : parts)
+                suggestions.addAll(part.join());
+            return limit(suggestions, limit);
+        });
+    }
+
+    private boolean canComplete(@NotNull ExecutableCommand<A> possible, @NotNull String firstWord, @NotNull A actor) {
+        return !possible.isSecret()
+                && possible.firstNode().name().startsWith(firstWord)
+                && possible.permission().isExecutableBy(actor);
+    }
+
+    private static @NotNull List<String> limit(@NotNull Collection<String> suggestions, int limit) {
+        List<String> result = new ArrayList<>(suggestions);
+        return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+    }
+
+    /**
+     * Holds the suggestions of an asynchronous provider while they are
+     * being computed
+     */
+    private static final class Pending {
+        private @Nullable CompletableFuture<List<String>> suggestions;
     }
 
-    private List<String> complete(ExecutableCommand<A> possible, MutableStringStream input, A actor) {
+    private List<String> complete(ExecutableCommand<A> possible, MutableStringStream input, A actor, @Nullable Pending pending) {
         MutableExecutionContext<A> context = ExecutionContext.createMutable(possible, actor, input.toImmutableCopy());
         for (CommandNode<A> child : possible.nodes()) {
             if (child instanceof ParameterNode) {
@@ -113,7 +369,7 @@ final class StandardAutoCompleter<A extends CommandActor> implements AutoComplet
             }
             if (input.remaining() == 1 && input.peek() == ' ') {
                 input.skipWhitespace();
-                return promptWith(child, actor, context, input);
+                return promptWith(child, context, pending);
             }
 
             if (child instanceof LiteralNode) {
@@ -152,9 +408,9 @@ final class StandardAutoCompleter<A extends CommandActor> implements AutoComplet
                         // user inputted something valid, but we still have some
                         // suggestions. throw it at them
                         if (consumed.contains(" ")) {
-                            return filterWithSpaces(parameter.complete(actor, input, context), consumed);
+                            return suggestWithSpaces(parameter, context, consumed, pending);
                         }
-                        return filter(parameter.complete(actor, input, context), s -> startsWithIgnoreCase(s, consumed));
+                        return suggest(parameter, context, consumed, pending);
                     } else if (input.peek() == ' ') {
                         input.skipWhitespace();
                     }
@@ -170,13 +426,13 @@ final class StandardAutoCompleter<A extends CommandActor> implements AutoComplet
                     input.setPosition(posBeforeParsing);
                     String consumed = input.peek(finishedAt - posBeforeParsing);
                     if (consumed.contains(" ")) {
-                        return filterWithSpaces(parameter.complete(actor, input, context), consumed);
+                        return suggestWithSpaces(parameter, context, consumed, pending);
                     }
                     if (input.canRead(consumed.length() + 1) && input.peekOffset(consumed.length()) == ' ') {
                         input.read(consumed.length());
                         continue;
                     }
-                    return filter(parameter.complete(actor, input, context), s -> startsWithIgnoreCase(s, consumed));
+                    return suggest(parameter, context, consumed, pending);
                 }
             }
         }
@@ -195,7 +451,7 @@ final class StandardAutoCompleter<A extends CommandActor> implements AutoComplet
                     input.skipWhitespace();
                 }
                 if (input.hasFinished() && parameter != null) {
-                    return copyList(parameter.suggestions().getSuggestions(context));
+                    return suggest(parameter, context, "", pending);
                 } else {
                     if (parameter != null) {
                         tryParseFlag(parameter, input, context);
@@ -216,7 +472,7 @@ final class StandardAutoCompleter<A extends CommandActor> implements AutoComplet
                     tryParseFlag(parameter, input, context);
                     if (input.hasRemaining() && input.peek() == ' ') {
                         input.skipWhitespace();
-                        return copyList(parameter.suggestions().getSuggestions(context));
+                        return suggest(parameter, context, "", pending);
                     } else if (input.hasFinished()) {
                         return flags.stream().map(f -> {
                                     if (f.shorthand() != null) {
@@ -253,14 +509,13 @@ final class StandardAutoCompleter<A extends CommandActor> implements AutoComplet
         }
     }
 
-    private @NotNull List<String> promptWith(CommandNode<A> child, A
-            actor, ExecutionContext<A> context, StringStream input) {
+    private @NotNull List<String> promptWith(CommandNode<A> child, ExecutionContext<A> context, @Nullable Pending pending) {
         if (child instanceof LiteralNode) {
             LiteralNode<A> l = (LiteralNode<A>) child;
             return Arrays.asList(l.name());
         } else if (child instanceof ParameterNode) {
             ParameterNode<A, ?> p = (ParameterNode<A, ?>) child;
-            return copyList(p.complete(actor, input, context));
+            return suggest(p, context, "", pending);
         } else
             return Arrays.asList();
     }
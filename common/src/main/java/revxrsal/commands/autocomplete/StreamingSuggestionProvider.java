@@ -0,0 +1,78 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.autocomplete;
+
+import org.jetbrains.annotations.NotNull;
+import revxrsal.commands.command.CommandActor;
+import revxrsal.commands.node.ExecutionContext;
+import revxrsal.commands.util.Strings;
+
+import java.util.Collection;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A {@link SuggestionProvider} that generates its suggestions lazily, and
+ * receives the prefix that the user has typed as well as the maximum
+ * number of suggestions to generate.
+ * <p>
+ * This allows providers with many possible suggestions (such as online
+ * players) to skip the suggestions that will never be shown:
+ * <pre>{@code
+ * StreamingSuggestionProvider<BukkitCommandActor> players = (context, prefix, limit) ->
+ *         Bukkit.getOnlinePlayers().stream()
+ *                 .map(Player::getName)
+ *                 .filter(name -> Strings.startsWithIgnoreCase(name, prefix))
+ *                 .limit(limit);
+ * }</pre>
+ *
+ * @param <A> The actor type
+ */
+@FunctionalInterface
+public interface StreamingSuggestionProvider<A extends CommandActor> extends SuggestionProvider<A> {
+
+    /**
+     * Returns a lazy stream of the suggestions that start with the given
+     * prefix, ignoring case (see {@link Strings#startsWithIgnoreCase(String, String)}).
+     * The stream should contain at most {@code limit} suggestions.
+     *
+     * @param context The execution context
+     * @param prefix  The prefix that the user has typed
+     * @param limit   The maximum number of suggestions
+     * @return The matching suggestions
+     */
+    @Override
+    @NotNull Stream<String> streamSuggestions(@NotNull ExecutionContext<A> context, @NotNull String prefix, int limit);
+
+    /**
+     * Returns all the suggestions of this provider
+     *
+     * @param context The execution context
+     * @return The command suggestions.
+     */
+    @Override
+    default @NotNull Collection<String> getSuggestions(@NotNull ExecutionContext<A> context) {
+        return streamSuggestions(context, "", Integer.MAX_VALUE).collect(Collectors.toList());
+    }
+}
@@ -37,8 +37,10 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static revxrsal.commands.util.Classes.checkRetention;
+import static revxrsal.commands.util.Strings.startsWithIgnoreCase;
 
 /**
  * An interface that supplies completions for the user depending on their input.
@@ -112,6 +114,33 @@ public interface SuggestionProvider<A extends CommandActor> extends BaseSuggesti
     @NotNull
     Collection<String> getSuggestions(@NotNull ExecutionContext<A> context);
 
+    /**
+     * Returns a lazy stream of the suggestions that start with the given
+     * prefix, ignoring case. The stream contains at most {@code limit}
+     * suggestions.
+     * <p>
+     * Auto-completers use this method rather than {@link #getSuggestions(ExecutionContext)},
+     * and stop consuming the stream once they have enough suggestions. The
+     * default implementation filters the result of {@link #getSuggestions(ExecutionContext)}.
+     * Providers that may generate many suggestions should implement
+     * {@link StreamingSuggestionProvider} instead.
+     *
+     * @param context The execution context
+     * @param prefix  The prefix that the user has typed
+     * @param limit   The maximum number of suggestions
+     * @return The matching suggestions
+     */
+    default @NotNull Stream<String> streamSuggestions(
+            @NotNull ExecutionContext<A> context,
+            @NotNull String prefix,
+            int limit
+    ) {
+        Stream<String> suggestions = getSuggestions(context).stream();
+        if (!prefix.isEmpty())
+            suggestions = suggestions.filter(s -> startsWithIgnoreCase(s, prefix));
+        return suggestions.limit(limit);
+    }
+
     /**
      * Represents a factory that creates {@link SuggestionProvider}s dynamically. This
      * can access the parameter type, generics and annotations.
@@ -33,12 +33,14 @@ import revxrsal.commands.help.Help.RelatedCommands;
 import revxrsal.commands.node.*;
 import revxrsal.commands.process.CommandCondition;
 import revxrsal.commands.stream.MutableStringStream;
+import revxrsal.commands.stream.StringStream;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.OptionalInt;
 
+import static revxrsal.commands.util.Collections.copyList;
 import static revxrsal.commands.util.Preconditions.notNull;
 
 /**
@@ -186,6 +188,24 @@ public interface ExecutableCommand<A extends CommandActor> extends Comparable<Ex
         lamp().registry().execute(actor, this, input);
     }
 
+    /**
+     * Executes this command with arguments that were already parsed by
+     * another command framework, such as Brigadier. This skips testing
+     * the input against other commands, and only parses the parameters
+     * whose values are not given in {@code arguments}.
+     * <p>
+     * Like {@link #execute(CommandActor, MutableStringStream)}, this checks
+     * all {@link CommandCondition}s, calls the execution hooks and handles
+     * any exception that occurs.
+     *
+     * @param actor     Actor to execute the command as
+     * @param input     The whole input of the command
+     * @param arguments The parsed arguments
+     */
+    default void execute(@NotNull A actor, @NotNull StringStream input, @NotNull ParsedArguments<A> arguments) {
+        execute(actor, input.toMutableCopy());
+    }
+
     /**
      * Executes this command with the given context. It is the caller's
      * responsibility to ensure that all required parameters are
@@ -278,6 +298,21 @@ public interface ExecutableCommand<A extends CommandActor> extends Comparable<Ex
     @NotNull @Unmodifiable @Contract(pure = true)
     Map<String, ParameterNode<A, Object>> parameters();
 
+    /**
+     * Returns the names of all the parameters in this command, in the
+     * same order as {@link #parameters()}.
+     * <p>
+     * This is used by {@link ExecutionContext}s to store resolved arguments
+     * by their index rather than by hashing their names, so implementations
+     * should compute it once.
+     *
+     * @return The parameter names
+     */
+    @ApiStatus.Internal
+    default @NotNull @Unmodifiable List<String> parameterNames() {
+        return copyList(parameters().keySet());
+    }
+
     /**
      * Returns the parameter with the given name, or {@code null} if
      * it does not exist.
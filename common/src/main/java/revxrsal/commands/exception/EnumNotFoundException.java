@@ -33,4 +33,14 @@ public class EnumNotFoundException extends InvalidValueException {
     public EnumNotFoundException(@NotNull String input) {
         super(input);
     }
+
+    /**
+     * Not filled in, unless this is a subclass. See {@link InvalidValueException}
+     *
+     * @return This exception
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return getClass() == EnumNotFoundException.class ? this : super.fillInStackTrace();
+    }
 }
@@ -50,4 +50,14 @@ public class ExpectedLiteralException extends InvalidValueException {
         //noinspection unchecked
         return (LiteralNode<A>) node;
     }
+
+    /**
+     * Not filled in, unless this is a subclass. See {@link InvalidValueException}
+     *
+     * @return This exception
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return getClass() == ExpectedLiteralException.class ? this : super.fillInStackTrace();
+    }
 }
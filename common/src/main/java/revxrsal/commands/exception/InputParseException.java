@@ -58,4 +58,13 @@ public final class InputParseException extends RuntimeException {
         EXPECTED_WHITESPACE
     }
 
+    /**
+     * Not filled in. See {@link InvalidValueException}
+     *
+     * @return This exception
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
 }
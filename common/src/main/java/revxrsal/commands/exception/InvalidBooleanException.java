@@ -33,4 +33,14 @@ public class InvalidBooleanException extends InvalidValueException {
     public InvalidBooleanException(@NotNull String input) {
         super(input);
     }
+
+    /**
+     * Not filled in, unless this is a subclass. See {@link InvalidValueException}
+     *
+     * @return This exception
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return getClass() == InvalidBooleanException.class ? this : super.fillInStackTrace();
+    }
 }
@@ -33,4 +33,14 @@ public class InvalidDecimalException extends InvalidNumberException {
     public InvalidDecimalException(@NotNull String input) {
         super(input);
     }
+
+    /**
+     * Not filled in, unless this is a subclass. See {@link InvalidValueException}
+     *
+     * @return This exception
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return getClass() == InvalidDecimalException.class ? this : super.fillInStackTrace();
+    }
 }
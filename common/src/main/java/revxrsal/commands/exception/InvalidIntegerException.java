@@ -33,4 +33,14 @@ public class InvalidIntegerException extends InvalidNumberException {
     public InvalidIntegerException(@NotNull String input) {
         super(input);
     }
+
+    /**
+     * Not filled in, unless this is a subclass. See {@link InvalidValueException}
+     *
+     * @return This exception
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return getClass() == InvalidIntegerException.class ? this : super.fillInStackTrace();
+    }
 }
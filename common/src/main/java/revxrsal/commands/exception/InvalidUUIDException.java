@@ -33,4 +33,14 @@ public class InvalidUUIDException extends InvalidValueException {
     public InvalidUUIDException(@NotNull String input) {
         super(input);
     }
+
+    /**
+     * Not filled in, unless this is a subclass. See {@link InvalidValueException}
+     *
+     * @return This exception
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return getClass() == InvalidUUIDException.class ? this : super.fillInStackTrace();
+    }
 }
@@ -29,6 +29,10 @@ import org.jetbrains.annotations.NotNull;
  * Thrown when an unacceptable value for a certain parameter is inputted,
  * for example, an invalid number for a number parameter, or an invalid
  * UUID for a {@link java.util.UUID} parameter.
+ * <p>
+ * The built-in invalid values are often created only to be discarded while
+ * Lamp tries out other commands, so they do not fill in their stack trace.
+ * Subclasses of them, and of this class, still do.
  */
 @ThrowableFromCommand
 public abstract class InvalidValueException extends RuntimeException {
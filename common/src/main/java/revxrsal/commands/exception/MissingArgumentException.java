@@ -50,4 +50,14 @@ public class MissingArgumentException extends RuntimeException {
     public ExecutableCommand<CommandActor> command() {
         return command;
     }
+
+    /**
+     * Not filled in, unless this is a subclass. See {@link InvalidValueException}
+     *
+     * @return This exception
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return getClass() == MissingArgumentException.class ? this : super.fillInStackTrace();
+    }
 }
@@ -24,7 +24,6 @@
 package revxrsal.commands.exception;
 
 import lombok.SneakyThrows;
-import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import revxrsal.commands.Lamp;
 import revxrsal.commands.command.CommandActor;
@@ -37,17 +36,19 @@ import revxrsal.commands.exception.context.ErrorContext.ParsingParameter;
 import revxrsal.commands.node.ExecutionContext;
 import revxrsal.commands.node.LiteralNode;
 import revxrsal.commands.node.ParameterNode;
+import revxrsal.commands.reflect.MethodCaller.BoundMethodCaller;
+import revxrsal.commands.reflect.MethodCallerFactory;
 import revxrsal.commands.util.Reflections;
 
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.text.NumberFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -98,7 +99,29 @@ import java.util.List;
  */
 public class RuntimeExceptionAdapter<A extends CommandActor> implements CommandExceptionHandler<A> {
 
-    private final List<CommandExceptionHandler<A>> handlers = new ArrayList<>();
+    private final List<HandlerFunction<A>> handlers = new ArrayList<>();
+
+    /**
+     * The indices of the handlers that can handle each throwable type, in the
+     * order they were registered. This saves us from testing every handler
+     * against the type of the throwable on each error.
+     * <p>
+     * This is a {@link ClassValue}, so that it does not keep the throwable classes
+     * (and their class loaders) alive. It stores indices rather than the handlers
+     * themselves, as the handlers reference this adapter, which would otherwise be
+     * kept alive for as long as the throwable classes are loaded.
+     */
+    private final ClassValue<int[]> dispatchTable = new ClassValue<int[]>() {
+        @Override protected int[] computeValue(@NotNull Class<?> type) {
+            int[] applicable = new int[handlers.size()];
+            int count = 0;
+            for (int i = 0; i < handlers.size(); i++) {
+                if (handlers.get(i).accepts(type))
+                    applicable[count++] = i;
+            }
+            return Arrays.copyOf(applicable, count);
+        }
+    };
 
     /**
      * Registers all {@link HandleException}-annotated methods to this
@@ -108,17 +131,11 @@ public class RuntimeExceptionAdapter<A extends CommandActor> implements CommandE
         for (Method method : Reflections.getAllMethods(getClass())) {
             if (!isHandler(method))
                 continue;
-            CommandExceptionHandler<A> handler = createHandler(method);
+            HandlerFunction<A> handler = createHandler(method);
             handlers.add(handler);
         }
     }
 
-    @Contract("_ -> fail")
-    @SneakyThrows
-    private static void sneakyThrow(Throwable t) {
-        throw t;
-    }
-
     private static boolean isHandler(Method method) {
         return method.isAnnotationPresent(HandleException.class);
     }
@@ -127,10 +144,12 @@ public class RuntimeExceptionAdapter<A extends CommandActor> implements CommandE
         return NumberFormat.getInstance().format(number);
     }
 
-    private @NotNull CommandExceptionHandler<A> createHandler(Method method) {
-        @SuppressWarnings("unchecked")
+    @SneakyThrows
+    private @NotNull HandlerFunction<A> createHandler(Method method) {
+        @SuppressWarnings({"unchecked", "rawtypes"})
         HandlerParameterSupplier<A>[] suppliers = new HandlerParameterSupplier[method.getParameterCount()];
         List<HandlerPredicate<A>> conditions = new ArrayList<>();
+        List<Class<?>> throwableTypes = new ArrayList<>();
 
         Parameter[] parameters = method.getParameters();
         for (int i = 0; i < parameters.length; i++) {
@@ -138,7 +157,7 @@ public class RuntimeExceptionAdapter<A extends CommandActor> implements CommandE
             Class<?> type = parameter.getType();
             if (Throwable.class.isAssignableFrom(type)) {
                 /* handle a Throwable parameter */
-                conditions.add((throwable, errorContext) -> type.isAssignableFrom(throwable.getClass()));
+                throwableTypes.add(type);
                 suppliers[i] = (throwable, errorContext) -> throwable;
             } else if (ExecutionContext.class.isAssignableFrom(type)) {
                 /* handler an ExecutionContext parameter */
@@ -178,30 +197,23 @@ public class RuntimeExceptionAdapter<A extends CommandActor> implements CommandE
                 throw new IllegalArgumentException("Don't know how to handle parameter of type " + type + " for a @HandleException function (" + method + ")");
             }
         }
-        return (throwable, errorContext) -> {
-            for (HandlerPredicate<A> condition : conditions) {
-                if (!condition.test(throwable, errorContext))
-                    return;
-            }
-            Object[] arguments = new Object[parameters.length];
-            for (int i = 0; i < suppliers.length; i++) {
-                HandlerParameterSupplier<A> supplier = suppliers[i];
-                arguments[i] = supplier.supply(throwable, errorContext);
-            }
-            try {
-                method.invoke(this, arguments);
-            } catch (IllegalAccessException e) {
-                sneakyThrow(e);
-            } catch (InvocationTargetException e) {
-                sneakyThrow(e.getCause());
-            }
-        };
+        BoundMethodCaller caller = MethodCallerFactory.defaultFactory()
+                .createFor(method)
+                .bindTo(this);
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        HandlerPredicate<A>[] conditionsArray = conditions.toArray(new HandlerPredicate[0]);
+        return new HandlerFunction<>(
+                throwableTypes.toArray(new Class<?>[0]),
+                conditionsArray,
+                suppliers,
+                caller
+        );
     }
 
     @Override
     public final void handleException(@NotNull Throwable throwable, @NotNull ErrorContext<A> errorContext) {
-        for (CommandExceptionHandler<A> handler : handlers) {
-            handler.handleException(throwable, errorContext);
+        for (int index : dispatchTable.get(throwable.getClass())) {
+            handlers.get(index).handleException(throwable, errorContext);
         }
     }
 
@@ -214,6 +226,57 @@ public class RuntimeExceptionAdapter<A extends CommandActor> implements CommandE
     public @interface HandleException {
     }
 
+    /**
+     * A compiled {@link HandleException} function
+     *
+     * @param <A> The actor type
+     */
+    private static final class HandlerFunction<A extends CommandActor> implements CommandExceptionHandler<A> {
+
+        private final Class<?>[] throwableTypes;
+        private final HandlerPredicate<A>[] conditions;
+        private final HandlerParameterSupplier<A>[] suppliers;
+        private final BoundMethodCaller caller;
+
+        private HandlerFunction(
+                Class<?>[] throwableTypes,
+                HandlerPredicate<A>[] conditions,
+                HandlerParameterSupplier<A>[] suppliers,
+                BoundMethodCaller caller
+        ) {
+            this.throwableTypes = throwableTypes;
+            this.conditions = conditions;
+            this.suppliers = suppliers;
+            this.caller = caller;
+        }
+
+        /**
+         * Tests whether this function can handle throwables of the given type
+         *
+         * @param type The throwable type
+         * @return true if it can handle it
+         */
+        public boolean accepts(@NotNull Class<?> type) {
+            for (Class<?> throwableType : throwableTypes) {
+                if (!throwableType.isAssignableFrom(type))
+                    return false;
+            }
+            return true;
+        }
+
+        @Override
+        public void handleException(@NotNull Throwable throwable, @NotNull ErrorContext<A> errorContext) {
+            for (HandlerPredicate<A> condition : conditions) {
+                if (!condition.test(throwable, errorContext))
+                    return;
+            }
+            Object[] arguments = new Object[suppliers.length];
+            for (int i = 0; i < suppliers.length; i++)
+                arguments[i] = suppliers[i].supply(throwable, errorContext);
+            caller.call(arguments);
+        }
+    }
+
     private interface HandlerParameterSupplier<A extends CommandActor> {
 
         Object supply(@NotNull Throwable throwable, @NotNull ErrorContext<A> errorContext);
@@ -33,4 +33,14 @@ public class UnknownCommandException extends InvalidValueException {
     public UnknownCommandException(@NotNull String input) {
         super(input);
     }
+
+    /**
+     * Not filled in, unless this is a subclass. See {@link InvalidValueException}
+     *
+     * @return This exception
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return getClass() == UnknownCommandException.class ? this : super.fillInStackTrace();
+    }
 }
@@ -44,4 +44,13 @@ public class UnknownParameterException extends RuntimeException {
         return shorthand;
     }
 
+    /**
+     * Not filled in, unless this is a subclass. See {@link InvalidValueException}
+     *
+     * @return This exception
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return getClass() == UnknownParameterException.class ? this : super.fillInStackTrace();
+    }
 }
@@ -0,0 +1,296 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+import revxrsal.commands.command.ExecutableCommand;
+import revxrsal.commands.node.ParameterNode;
+import revxrsal.commands.parameter.ParameterType;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link LampMetrics} that keeps all metrics in memory, without locking.
+ * <p>
+ * Latencies are kept per command path and per parsed type, and failures are
+ * counted per exception type. All of them are keyed by name rather than by the
+ * command or class itself, so that metrics never keep unregistered commands or
+ * the class loaders of unloaded plugins in memory. Use {@link #snapshot()} to
+ * read them.
+ *
+ * @see LampMetrics#inMemory()
+ */
+public final class InMemoryLampMetrics implements LampMetrics {
+
+    private final LatencyHistogram dispatches = new LatencyHistogram();
+    private final LongAdder candidates = new LongAdder();
+    private final LongAdder unexecutedDispatches = new LongAdder();
+
+    private final Map<String, LatencyHistogram> executions = new ConcurrentHashMap<>();
+    private final LongAdder failedExecutions = new LongAdder();
+
+    private final Map<String, LatencyHistogram> parses = new ConcurrentHashMap<>();
+    private final LongAdder failedParses = new LongAdder();
+
+    private final LatencyHistogram completions = new LatencyHistogram();
+    private final LongAdder suggestions = new LongAdder();
+
+    private final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+
+    InMemoryLampMetrics() {
+    }
+
+    private static <K> @NotNull LatencyHistogram histogram(@NotNull Map<K, LatencyHistogram> histograms, @NotNull K key) {
+        LatencyHistogram histogram = histograms.get(key);
+        if (histogram == null) {
+            histogram = new LatencyHistogram();
+            LatencyHistogram previous = histograms.putIfAbsent(key, histogram);
+            if (previous != null)
+                return previous;
+        }
+        return histogram;
+    }
+
+    private static <K> @NotNull @Unmodifiable Map<K, LatencyHistogram.Snapshot> snapshot(@NotNull Map<K, LatencyHistogram> histograms) {
+        Map<K, LatencyHistogram.Snapshot> snapshots = new LinkedHashMap<>();
+        histograms.forEach((key, histogram) -> snapshots.put(key, histogram.snapshot()));
+        return Collections.unmodifiableMap(snapshots);
+    }
+
+    @Override public void recordDispatch(int candidates, boolean executed, long duration) {
+        dispatches.record(duration);
+        this.candidates.add(candidates);
+        if (!executed)
+            unexecutedDispatches.increment();
+    }
+
+    @Override public void recordParse(@NotNull ParameterNode<?, ?> parameter, boolean successful, long duration) {
+        histogram(parses, parameter.type().getName()).record(duration);
+        if (!successful)
+            failedParses.increment();
+    }
+
+    @Override public void recordExecution(@NotNull ExecutableCommand<?> command, boolean successful, long duration) {
+        histogram(executions, command.path()).record(duration);
+        if (!successful)
+            failedExecutions.increment();
+    }
+
+    @Override public void recordCompletion(int suggestions, long duration) {
+        completions.record(duration);
+        this.suggestions.add(suggestions);
+    }
+
+    @Override public void recordFailure(@NotNull Throwable error) {
+        String type = error.getClass().getName();
+        LongAdder count = failures.get(type);
+        if (count == null) {
+            count = new LongAdder();
+            LongAdder previous = failures.putIfAbsent(type, count);
+            if (previous != null)
+                count = previous;
+        }
+        count.increment();
+    }
+
+    /**
+     * Creates an immutable snapshot of the metrics. Metrics that are
+     * recorded while the snapshot is created may or may not be included.
+     *
+     * @return The snapshot
+     */
+    public @NotNull Snapshot snapshot() {
+        Map<String, Long> failures = new LinkedHashMap<>();
+        this.failures.forEach((type, count) -> failures.put(type, count.sum()));
+        return new Snapshot(
+                dispatches.snapshot(),
+                candidates.sum(),
+                unexecutedDispatches.sum(),
+                snapshot(executions),
+                failedExecutions.sum(),
+                snapshot(parses),
+                failedParses.sum(),
+                completions.snapshot(),
+                suggestions.sum(),
+                Collections.unmodifiableMap(failures)
+        );
+    }
+
+    @Override public String toString() {
+        return "InMemoryLampMetrics(" + snapshot() + ")";
+    }
+
+    /**
+     * An immutable snapshot of an {@link InMemoryLampMetrics}
+     */
+    public static final class Snapshot {
+
+        private final LatencyHistogram.Snapshot dispatches;
+        private final long candidates;
+        private final long unexecutedDispatches;
+        private final Map<String, LatencyHistogram.Snapshot> executions;
+        private final long failedExecutions;
+        private final Map<String, LatencyHistogram.Snapshot> parses;
+        private final long failedParses;
+        private final LatencyHistogram.Snapshot completions;
+        private final long suggestions;
+        private final Map<String, Long> failures;
+
+        private Snapshot(
+                LatencyHistogram.Snapshot dispatches,
+                long candidates,
+                long unexecutedDispatches,
+                Map<String, LatencyHistogram.Snapshot> executions,
+                long failedExecutions,
+                Map<String, LatencyHistogram.Snapshot> parses,
+                long failedParses,
+                LatencyHistogram.Snapshot completions,
+                long suggestions,
+                Map<String, Long> failures
+        ) {
+            this.dispatches = dispatches;
+            this.candidates = candidates;
+            this.unexecutedDispatches = unexecutedDispatches;
+            this.executions = executions;
+            this.failedExecutions = failedExecutions;
+            this.parses = parses;
+            this.failedParses = failedParses;
+            this.completions = completions;
+            this.suggestions = suggestions;
+            this.failures = failures;
+        }
+
+        /**
+         * Returns the latencies of dispatching inputs, including the
+         * execution of the command
+         *
+         * @return The dispatch latencies
+         */
+        public @NotNull LatencyHistogram.Snapshot dispatches() {
+            return dispatches;
+        }
+
+        /**
+         * Returns the number of commands that were tested against
+         * all dispatched inputs
+         *
+         * @return The number of candidates tried
+         */
+        public long candidatesTried() {
+            return candidates;
+        }
+
+        /**
+         * Returns the number of dispatched inputs that did not execute
+         * any command
+         *
+         * @return The number of unexecuted dispatches
+         */
+        public long unexecutedDispatches() {
+            return unexecutedDispatches;
+        }
+
+        /**
+         * Returns the latencies of executing each command function, by the
+         * {@link ExecutableCommand#path() path} of the command
+         *
+         * @return The execution latencies
+         */
+        public @NotNull @Unmodifiable Map<String, LatencyHistogram.Snapshot> executions() {
+            return executions;
+        }
+
+        /**
+         * Returns the number of command functions that threw an exception
+         *
+         * @return The number of failed executions
+         */
+        public long failedExecutions() {
+            return failedExecutions;
+        }
+
+        /**
+         * Returns the latencies of parsing parameters, by the name of the
+         * class that their {@link ParameterType} parses, as returned by
+         * {@link Class#getName()}.
+         *
+         * @return The parsing latencies
+         */
+        public @NotNull @Unmodifiable Map<String, LatencyHistogram.Snapshot> parses() {
+            return parses;
+        }
+
+        /**
+         * Returns the number of parameters that failed to parse
+         *
+         * @return The number of failed parses
+         */
+        public long failedParses() {
+            return failedParses;
+        }
+
+        /**
+         * Returns the latencies of computing completions
+         *
+         * @return The completion latencies
+         */
+        public @NotNull LatencyHistogram.Snapshot completions() {
+            return completions;
+        }
+
+        /**
+         * Returns the number of suggestions returned by all completions
+         *
+         * @return The number of suggestions
+         */
+        public long suggestions() {
+            return suggestions;
+        }
+
+        /**
+         * Returns the number of errors that were passed to the exception
+         * handler, by the {@link Class#getName() name} of their class
+         *
+         * @return The failures by exception class name
+         */
+        public @NotNull @Unmodifiable Map<String, Long> failures() {
+            return failures;
+        }
+
+        @Override public String toString() {
+            return "Snapshot(dispatches=" + dispatches +
+                    ", candidatesTried=" + candidates +
+                    ", unexecutedDispatches=" + unexecutedDispatches +
+                    ", failedExecutions=" + failedExecutions +
+                    ", failedParses=" + failedParses +
+                    ", completions=" + completions +
+                    ", failures=" + failures + ")";
+        }
+    }
+}
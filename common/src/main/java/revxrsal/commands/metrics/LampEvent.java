@@ -0,0 +1,83 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A timed event that has begun, and may be committed once the work it
+ * times is done. Events are created by {@link LampEvents}.
+ * <p>
+ * The details of an event are only computed if {@link #shouldCommit()}
+ * returns {@code true}:
+ * <pre>{@code
+ * LampEvent event = lamp.events().dispatch();
+ * // ... do the work
+ * if (event.shouldCommit())
+ *     event.commit(actor.name(), input, null, LampEvent.SUCCESS);
+ * }</pre>
+ */
+public interface LampEvent {
+
+    /**
+     * The outcome of work that was successful
+     */
+    String SUCCESS = "success";
+
+    /**
+     * The outcome of work that failed
+     */
+    String FAILURE = "failure";
+
+    /**
+     * Returns the outcome of work that was, or was not, successful
+     *
+     * @param successful Whether the work was successful
+     * @return {@link #SUCCESS} or {@link #FAILURE}
+     */
+    static @NotNull String outcome(boolean successful) {
+        return successful ? SUCCESS : FAILURE;
+    }
+
+    /**
+     * Tests whether this event should be committed. This is {@code false}
+     * when the event is disabled, in which case {@link #commit(String, String, String, String)}
+     * does nothing.
+     *
+     * @return If the event should be committed
+     */
+    boolean shouldCommit();
+
+    /**
+     * Ends and commits this event
+     *
+     * @param actor   The name of the actor
+     * @param command The command path, or the input if no command is known
+     * @param subject What the event is about, such as the parameter name or
+     *                exception type, if any
+     * @param outcome The outcome, such as {@link #SUCCESS} or {@link #FAILURE}
+     */
+    void commit(@Nullable String actor, @Nullable String command, @Nullable String subject, @NotNull String outcome);
+}
@@ -0,0 +1,98 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import revxrsal.commands.Lamp;
+
+/**
+ * Creates {@link LampEvent}s that time the work Lamp does, such as
+ * dispatching, parsing and suggesting. Unlike {@link LampMetrics}, which
+ * aggregates timings, events are begun before the work and committed
+ * after it, which allows them to be correlated with other events that
+ * happened at the same time, for example in a JDK Flight Recorder recording.
+ * <p>
+ * Each {@link Lamp} instance has a single {@link LampEvents}, which is set
+ * using {@link Lamp.Builder#events(LampEvents)}. By default, it is
+ * {@link #none()}, which creates no events.
+ * <p>
+ * Each method begins a new event, and is invoked on the thread that
+ * does the work.
+ */
+public interface LampEvents {
+
+    /**
+     * Returns a {@link LampEvents} that never commits any event
+     *
+     * @return The no-op events
+     */
+    static @NotNull LampEvents none() {
+        return NoopLampEvents.INSTANCE;
+    }
+
+    /**
+     * Begins an event that times dispatching an input, from testing
+     * the commands to executing the one that matched
+     *
+     * @return The event
+     */
+    @NotNull LampEvent dispatch();
+
+    /**
+     * Begins an event that times testing a single command against
+     * an input
+     *
+     * @return The event
+     */
+    @NotNull LampEvent potentialTest();
+
+    /**
+     * Begins an event that times parsing a single parameter
+     *
+     * @return The event
+     */
+    @NotNull LampEvent parse();
+
+    /**
+     * Begins an event that times getting the suggestions of a
+     * single parameter
+     *
+     * @return The event
+     */
+    @NotNull LampEvent suggestions();
+
+    /**
+     * Begins an event that times handling the response of a command
+     *
+     * @return The event
+     */
+    @NotNull LampEvent response();
+
+    /**
+     * Begins an event that times handling an exception
+     *
+     * @return The event
+     */
+    @NotNull LampEvent exceptionHandling();
+}
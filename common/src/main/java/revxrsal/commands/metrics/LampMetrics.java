@@ -0,0 +1,122 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.metrics;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import revxrsal.commands.Lamp;
+import revxrsal.commands.command.ExecutableCommand;
+import revxrsal.commands.node.ParameterNode;
+
+/**
+ * Receives timings and counts from Lamp's command flow, which can be used
+ * to find out which commands or parameter types are slow.
+ * <p>
+ * Each {@link Lamp} instance has a single {@link LampMetrics}, which is
+ * set using {@link Lamp.Builder#metrics(LampMetrics)}. By default, it is
+ * {@link #noop()}, which does not record anything. {@link #inMemory()}
+ * creates an implementation that keeps all the metrics in memory and can
+ * be {@link InMemoryLampMetrics#snapshot() snapshotted}.
+ * <p>
+ * Implementations are invoked on the threads that dispatch and complete
+ * commands, so they must be thread-safe, and should be cheap.
+ * <p>
+ * All durations are in nanoseconds.
+ */
+public interface LampMetrics {
+
+    /**
+     * Returns a {@link LampMetrics} that does not record anything
+     *
+     * @return The no-op metrics
+     */
+    static @NotNull LampMetrics noop() {
+        return NoopLampMetrics.INSTANCE;
+    }
+
+    /**
+     * Creates a new {@link InMemoryLampMetrics}
+     *
+     * @return The newly created metrics
+     */
+    @Contract(value = "-> new", pure = true)
+    static @NotNull InMemoryLampMetrics inMemory() {
+        return new InMemoryLampMetrics();
+    }
+
+    /**
+     * Tests whether this implementation records anything. When this
+     * returns {@code false}, Lamp does not measure anything and never
+     * calls the other methods.
+     *
+     * @return If metrics are recorded
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Records the dispatching of an input
+     *
+     * @param candidates The number of commands that were tested against
+     *                   the input
+     * @param executed   Whether a command was executed
+     * @param duration   The time it took to test and execute the commands
+     */
+    void recordDispatch(int candidates, boolean executed, long duration);
+
+    /**
+     * Records the parsing of a single parameter
+     *
+     * @param parameter  The parameter that was parsed
+     * @param successful Whether parsing was successful
+     * @param duration   The time it took to parse the parameter
+     */
+    void recordParse(@NotNull ParameterNode<?, ?> parameter, boolean successful, long duration);
+
+    /**
+     * Records the execution of a command function
+     *
+     * @param command    The command that was executed
+     * @param successful Whether the function returned without throwing
+     * @param duration   The time it took to execute the function and
+     *                   handle its response
+     */
+    void recordExecution(@NotNull ExecutableCommand<?> command, boolean successful, long duration);
+
+    /**
+     * Records a request for completions
+     *
+     * @param suggestions The number of suggestions that were returned
+     * @param duration    The time it took to compute the suggestions
+     */
+    void recordCompletion(int suggestions, long duration);
+
+    /**
+     * Records an error that was passed to the exception handler
+     *
+     * @param error The error
+     */
+    void recordFailure(@NotNull Throwable error);
+}
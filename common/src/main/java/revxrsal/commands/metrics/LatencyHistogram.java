@@ -0,0 +1,167 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of durations.
+ * <p>
+ * Durations are counted in buckets whose bounds are powers of two, so
+ * recording is a single atomic increment, and percentiles are accurate
+ * to within a factor of two.
+ */
+public final class LatencyHistogram {
+
+    /**
+     * The number of buckets. Bucket {@code i} counts the durations that
+     * need exactly {@code i} bits, which are in {@code [2^(i-1), 2^i)}.
+     */
+    private static final int BUCKETS = Long.SIZE;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records the given duration
+     *
+     * @param duration The duration. Negative durations are counted as 0.
+     */
+    public void record(long duration) {
+        if (duration < 0)
+            duration = 0;
+        buckets.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(duration));
+        total.add(duration);
+        max.accumulate(duration);
+    }
+
+    /**
+     * Creates an immutable snapshot of this histogram. Durations that are
+     * recorded while the snapshot is created may or may not be included.
+     *
+     * @return The snapshot
+     */
+    public @NotNull Snapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            count += counts[i];
+        }
+        return new Snapshot(counts, count, total.sum(), max.get());
+    }
+
+    @Override public String toString() {
+        return snapshot().toString();
+    }
+
+    /**
+     * An immutable snapshot of a {@link LatencyHistogram}
+     */
+    public static final class Snapshot {
+
+        private final long[] buckets;
+        private final long count;
+        private final long total;
+        private final long max;
+
+        private Snapshot(long[] buckets, long count, long total, long max) {
+            this.buckets = buckets;
+            this.count = count;
+            this.total = total;
+            this.max = max;
+        }
+
+        /**
+         * Returns the number of recorded durations
+         *
+         * @return The count
+         */
+        public long count() {
+            return count;
+        }
+
+        /**
+         * Returns the sum of all recorded durations
+         *
+         * @return The total duration
+         */
+        public long total() {
+            return total;
+        }
+
+        /**
+         * Returns the longest recorded duration
+         *
+         * @return The maximum duration
+         */
+        public long max() {
+            return max;
+        }
+
+        /**
+         * Returns the mean of the recorded durations, or 0 if nothing
+         * was recorded
+         *
+         * @return The mean duration
+         */
+        public double mean() {
+            return count == 0 ? 0 : (double) total / count;
+        }
+
+        /**
+         * Returns an upper bound of the given percentile. This is the upper
+         * bound of the bucket that contains the percentile, capped at
+         * {@link #max()}.
+         *
+         * @param percentile The percentile, between 0 and 100
+         * @return The percentile, or 0 if nothing was recorded
+         */
+        public long percentile(@Range(from = 0, to = 100) double percentile) {
+            if (percentile < 0 || percentile > 100)
+                throw new IllegalArgumentException("Percentile must be between 0 and 100");
+            if (count == 0)
+                return 0;
+            long rank = Math.max(1, (long) Math.ceil(count * percentile / 100));
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank)
+                    return i >= Long.SIZE - 1 ? max : Math.min(max, (1L << i) - 1);
+            }
+            return max;
+        }
+
+        @Override public String toString() {
+            return "Latency(count=" + count + ", mean=" + (long) mean() + ", p50=" + percentile(50)
+                    + ", p99=" + percentile(99) + ", max=" + max + ")";
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A {@link LampEvents} that creates a single event, which is never committed
+ */
+final class NoopLampEvents implements LampEvents, LampEvent {
+
+    public static final NoopLampEvents INSTANCE = new NoopLampEvents();
+
+    @Override public @NotNull LampEvent dispatch() {
+        return this;
+    }
+
+    @Override public @NotNull LampEvent potentialTest() {
+        return this;
+    }
+
+    @Override public @NotNull LampEvent parse() {
+        return this;
+    }
+
+    @Override public @NotNull LampEvent suggestions() {
+        return this;
+    }
+
+    @Override public @NotNull LampEvent response() {
+        return this;
+    }
+
+    @Override public @NotNull LampEvent exceptionHandling() {
+        return this;
+    }
+
+    @Override public boolean shouldCommit() {
+        return false;
+    }
+
+    @Override public void commit(@Nullable String actor, @Nullable String command, @Nullable String subject, @NotNull String outcome) {
+    }
+
+    @Override public String toString() {
+        return "NoopLampEvents";
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import revxrsal.commands.command.ExecutableCommand;
+import revxrsal.commands.node.ParameterNode;
+
+/**
+ * A {@link LampMetrics} that does not record anything
+ */
+final class NoopLampMetrics implements LampMetrics {
+
+    public static final NoopLampMetrics INSTANCE = new NoopLampMetrics();
+
+    @Override public boolean isEnabled() {
+        return false;
+    }
+
+    @Override public void recordDispatch(int candidates, boolean executed, long duration) {
+    }
+
+    @Override public void recordParse(@NotNull ParameterNode<?, ?> parameter, boolean successful, long duration) {
+    }
+
+    @Override public void recordExecution(@NotNull ExecutableCommand<?> command, boolean successful, long duration) {
+    }
+
+    @Override public void recordCompletion(int suggestions, long duration) {
+    }
+
+    @Override public void recordFailure(@NotNull Throwable error) {
+    }
+
+    @Override public String toString() {
+        return "NoopLampMetrics";
+    }
+}
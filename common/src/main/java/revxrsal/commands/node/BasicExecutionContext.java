@@ -32,7 +32,6 @@ import revxrsal.commands.command.ExecutableCommand;
 import revxrsal.commands.stream.StringStream;
 import revxrsal.commands.util.Classes;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 import static revxrsal.commands.util.Preconditions.notNull;
@@ -41,12 +40,13 @@ class BasicExecutionContext<A extends CommandActor> implements ExecutionContext<
     protected final ExecutableCommand<A> command;
     protected final StringStream input;
     protected final A actor;
-    protected final Map<String, Object> resolvedArguments = new LinkedHashMap<>();
+    protected final ResolvedArguments resolvedArguments;
 
     public BasicExecutionContext(ExecutableCommand<A> command, StringStream input, A actor) {
         this.command = command;
         this.input = input;
         this.actor = actor;
+        this.resolvedArguments = new ResolvedArguments(command.parameterNames());
     }
 
     @Override public @NotNull A actor() {
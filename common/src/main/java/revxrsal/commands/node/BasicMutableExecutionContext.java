@@ -41,7 +41,7 @@ final class BasicMutableExecutionContext<A extends CommandActor> extends BasicEx
     }
 
     public void addResolvedArgument(@NotNull String name, Object result) {
-        Object old = resolvedArguments.put(name, result);
+        Object old = resolvedArguments.set(name, result);
         if (old != null)
             throw new IllegalArgumentException("A parameter with name '" + name + "' already exists!");
     }
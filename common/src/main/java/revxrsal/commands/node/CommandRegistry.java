@@ -26,6 +26,7 @@ package revxrsal.commands.node;
 import org.jetbrains.annotations.CheckReturnValue;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
 import org.jetbrains.annotations.UnmodifiableView;
 import revxrsal.commands.Lamp;
 import revxrsal.commands.command.CommandActor;
@@ -42,6 +43,9 @@ import java.util.function.Predicate;
  * {@link Lamp} instance.
  * <p>
  * This can be accessed with {@link Lamp#registry()}
+ * <p>
+ * Registries are thread-safe. Commands may be dispatched or auto-completed
+ * from any thread while other commands are being registered or unregistered.
  *
  * @param <A> The actor type
  */
@@ -84,12 +88,15 @@ public interface CommandRegistry<A extends CommandActor> extends Iterable<Execut
     void execute(@NotNull A actor, @NotNull ExecutableCommand<A> command, @NotNull MutableStringStream input);
 
     /**
-     * Gets an unmodifiable view of all the {@link ExecutableCommand commands}
+     * Gets an immutable snapshot of all the {@link ExecutableCommand commands}
      * registered in this registry.
+     * <p>
+     * The returned list is not affected by commands that get registered
+     * or unregistered afterwards, so it is safe to iterate from any thread.
      *
      * @return all the registered commands
      */
-    @NotNull @UnmodifiableView
+    @NotNull @Unmodifiable
     List<ExecutableCommand<A>> commands();
 
     /**
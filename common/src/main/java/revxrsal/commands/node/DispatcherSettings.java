@@ -30,6 +30,8 @@ import revxrsal.commands.command.CommandActor;
 import revxrsal.commands.command.Potential;
 import revxrsal.commands.util.StackTraceSanitizer;
 
+import java.time.Duration;
+
 import static revxrsal.commands.node.DefaultFailureHandler.defaultFailureHandler;
 import static revxrsal.commands.util.Preconditions.notNull;
 
@@ -59,12 +61,35 @@ public final class DispatcherSettings<A extends CommandActor> {
      */
     public static final int DEFAULT_MAXIMUM_FAILED_ATTEMPTS = 5;
 
+    /**
+     * The default number of suggestions that are requested from a
+     * {@link revxrsal.commands.autocomplete.SuggestionProvider}. Clients
+     * rarely display more than that.
+     */
+    public static final int DEFAULT_MAXIMUM_SUGGESTIONS = 100;
+
+    /**
+     * The default time that asynchronous completion waits for an
+     * {@link revxrsal.commands.autocomplete.AsyncSuggestionProvider}.
+     */
+    public static final Duration DEFAULT_SUGGESTION_TIMEOUT = Duration.ofSeconds(2);
+
     /**
      * The number of failed attempts after which Lamp will stop testing out commands
      * (for efficiency) and invoke the {@link #failureHandler()}.
      */
     private final int maximumFailedAttempts;
 
+    /**
+     * The maximum number of suggestions that are requested from a suggestion provider.
+     */
+    private final int maximumSuggestions;
+
+    /**
+     * The time that asynchronous completion waits for an asynchronous suggestion provider.
+     */
+    private final @NotNull Duration suggestionTimeout;
+
     /**
      * The failure handler that will consume the failed potentials.
      */
@@ -77,6 +102,8 @@ public final class DispatcherSettings<A extends CommandActor> {
 
     private DispatcherSettings(Builder<A> builder) {
         this.maximumFailedAttempts = builder.maximumFailedAttempts;
+        this.maximumSuggestions = builder.maximumSuggestions;
+        this.suggestionTimeout = builder.suggestionTimeout;
         this.failureHandler = builder.failureHandler;
         this.stackTraceSanitizer = builder.stackTraceSanitizer;
     }
@@ -101,6 +128,33 @@ public final class DispatcherSettings<A extends CommandActor> {
         return maximumFailedAttempts;
     }
 
+    /**
+     * The maximum number of suggestions that are requested from a suggestion
+     * provider. Auto-completers stop consuming suggestions once they reach
+     * this number.
+     *
+     * @return the maximum number of suggestions
+     */
+    public int maximumSuggestions() {
+        return maximumSuggestions;
+    }
+
+    /**
+     * The time that asynchronous completion waits for an asynchronous
+     * suggestion provider. Providers that take longer than that do not
+     * contribute any suggestions.
+     * <p>
+     * Platforms that need suggestions synchronously, such as Bukkit's tab
+     * completion, wait for the asynchronous completion on the calling thread,
+     * so they may block it for up to this duration.
+     *
+     * @return the suggestion timeout
+     * @see revxrsal.commands.autocomplete.AutoCompleter#completeAsync(CommandActor, String)
+     */
+    public @NotNull Duration suggestionTimeout() {
+        return suggestionTimeout;
+    }
+
     /**
      * The failure handler that will consume the failed potentials.
      *
@@ -131,6 +185,8 @@ public final class DispatcherSettings<A extends CommandActor> {
     public @NotNull Builder<A> toBuilder() {
         return new Builder<>()
                 .maximumFailedAttempts(maximumFailedAttempts)
+                .maximumSuggestions(maximumSuggestions)
+                .suggestionTimeout(suggestionTimeout)
                 .failureHandler((FailureHandler) failureHandler);
     }
 
@@ -147,6 +203,16 @@ public final class DispatcherSettings<A extends CommandActor> {
          */
         private int maximumFailedAttempts = DEFAULT_MAXIMUM_FAILED_ATTEMPTS;
 
+        /**
+         * The maximum number of suggestions that are requested from a suggestion provider.
+         */
+        private int maximumSuggestions = DEFAULT_MAXIMUM_SUGGESTIONS;
+
+        /**
+         * The time that asynchronous completion waits for an asynchronous suggestion provider.
+         */
+        private @NotNull Duration suggestionTimeout = DEFAULT_SUGGESTION_TIMEOUT;
+
         /**
          * The failure handler that will consume the failed potentials.
          */
@@ -173,6 +239,38 @@ public final class DispatcherSettings<A extends CommandActor> {
             return this;
         }
 
+        /**
+         * Sets the maximum number of suggestions that are requested from a
+         * suggestion provider.
+         *
+         * @param maximumSuggestions the maximum number of suggestions
+         * @return This builder
+         */
+        public @NotNull Builder<A> maximumSuggestions(
+                @Range(from = 1, to = Integer.MAX_VALUE) int maximumSuggestions
+        ) {
+            if (maximumSuggestions < 1)
+                throw new IllegalArgumentException("Maximum suggestions must be a positive number!");
+            this.maximumSuggestions = maximumSuggestions;
+            return this;
+        }
+
+        /**
+         * Sets the time that asynchronous completion waits for an asynchronous
+         * suggestion provider.
+         *
+         * @param suggestionTimeout the suggestion timeout
+         * @return This builder
+         */
+        @Contract("null -> fail")
+        public @NotNull Builder<A> suggestionTimeout(@NotNull Duration suggestionTimeout) {
+            notNull(suggestionTimeout, "suggestion timeout");
+            if (suggestionTimeout.isNegative() || suggestionTimeout.isZero())
+                throw new IllegalArgumentException("Suggestion timeout must be positive!");
+            this.suggestionTimeout = suggestionTimeout;
+            return this;
+        }
+
         /**
          * Sets the failure handler that will consume the failed potentials.
          *
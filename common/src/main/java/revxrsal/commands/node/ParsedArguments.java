@@ -0,0 +1,84 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.node;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import revxrsal.commands.command.CommandActor;
+import revxrsal.commands.command.ExecutableCommand;
+import revxrsal.commands.stream.StringStream;
+
+/**
+ * The arguments of a command that were already parsed by another command
+ * framework, such as Brigadier. This allows Lamp to execute a command
+ * without parsing its input again.
+ * <p>
+ * Each parameter is either:
+ * <ul>
+ *     <li>
+ *         Parsed into its type, in which case {@link #hasValue(ParameterNode)}
+ *         returns {@code true} and Lamp uses {@link #value(ParameterNode)} as-is
+ *     </li>
+ *     <li>
+ *         Only given as input, which Lamp parses with the parameter's
+ *         {@link revxrsal.commands.parameter.ParameterType}
+ *     </li>
+ *     <li>
+ *         Not given at all, in which case Lamp uses its default value, or
+ *         fails if it is required
+ *     </li>
+ * </ul>
+ *
+ * @param <A> The actor type
+ * @see ExecutableCommand#execute(CommandActor, StringStream, ParsedArguments)
+ */
+public interface ParsedArguments<A extends CommandActor> {
+
+    /**
+     * Returns the part of the input that was given for the parameter, or
+     * {@code null} if it was not given. For switches, this is the switch
+     * itself.
+     *
+     * @param parameter The parameter
+     * @return The input of the parameter
+     */
+    @Nullable String input(@NotNull ParameterNode<A, ?> parameter);
+
+    /**
+     * Tests whether the parameter was parsed into its type
+     *
+     * @param parameter The parameter
+     * @return If {@link #value(ParameterNode)} can be used as-is
+     */
+    boolean hasValue(@NotNull ParameterNode<A, ?> parameter);
+
+    /**
+     * Returns the value the parameter was parsed into. This is only invoked
+     * if {@link #hasValue(ParameterNode)} returns {@code true}.
+     *
+     * @param parameter The parameter
+     * @return The parsed value
+     */
+    @Nullable Object value(@NotNull ParameterNode<A, ?> parameter);
+}
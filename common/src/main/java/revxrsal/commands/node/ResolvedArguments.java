@@ -0,0 +1,224 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.node;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * A read-only {@link Map} of resolved arguments, backed by an array that is
+ * addressed by the index of each parameter in its command. Lookups by name
+ * scan the parameter names, which is intended for the short parameter lists
+ * of commands.
+ * <p>
+ * The parameter names are shared by all contexts of the same command, so
+ * storing an argument only writes to an array slot instead of allocating a
+ * hash-map entry. Arguments whose names do not belong to the command are
+ * kept in a separate map, which is only created when needed.
+ * <p>
+ * This map iterates over arguments in the order of the command's parameters.
+ */
+@ApiStatus.Internal
+public final class ResolvedArguments extends AbstractMap<String, Object> {
+
+    /**
+     * Marks a slot that has no value. This allows storing {@code null}s.
+     */
+    private static final Object ABSENT = new Object();
+
+    private final List<String> names;
+    private final Object[] values;
+    private int size;
+    private @Nullable Map<String, Object> others;
+
+    ResolvedArguments(@NotNull List<String> names) {
+        this.names = names;
+        this.values = new Object[names.size()];
+        Arrays.fill(values, ABSENT);
+    }
+
+    /**
+     * Finds the slot of the given name by scanning the names in order. Commands
+     * have few parameters, and callers pass the same {@code String} instances
+     * as the command's parameter names, so the scan almost always ends on the
+     * identity check. This is cheaper than hashing the name for such short lists.
+     *
+     * @param name The argument name
+     * @return The slot index, or {@code -1} if the name does not belong to the command
+     */
+    private int indexOf(@NotNull Object name) {
+        for (int i = 0; i < values.length; i++) {
+            String n = names.get(i);
+            //noinspection StringEquality
+            if (n == name || n.equals(name))
+                return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the parameter names that this map is addressed by. Slot
+     * {@code i} holds the argument of the {@code i}-th name.
+     *
+     * @return The parameter names
+     */
+    public @NotNull List<String> names() {
+        return names;
+    }
+
+    /**
+     * Tests whether the argument in the given slot has been resolved
+     *
+     * @param slot The slot index
+     * @return if the argument is present
+     */
+    public boolean has(int slot) {
+        return values[slot] != ABSENT;
+    }
+
+    /**
+     * Returns the argument in the given slot
+     *
+     * @param slot The slot index
+     * @return The argument, or {@code null} if it is not present
+     */
+    public @Nullable Object valueAt(int slot) {
+        Object value = values[slot];
+        return value == ABSENT ? null : value;
+    }
+
+    /**
+     * Sets the value of the given argument
+     *
+     * @param name  The argument name
+     * @param value The argument value
+     * @return The old value, or {@code null} if there was none.
+     */
+    @Nullable Object set(@NotNull String name, @Nullable Object value) {
+        int index = indexOf(name);
+        if (index == -1) {
+            if (others == null)
+                others = new LinkedHashMap<>();
+            return others.put(name, value);
+        }
+        Object old = values[index];
+        values[index] = value;
+        if (old == ABSENT) {
+            size++;
+            return null;
+        }
+        return old;
+    }
+
+    /**
+     * Removes all the arguments
+     */
+    @Override public void clear() {
+        if (size > 0) {
+            Arrays.fill(values, ABSENT);
+            size = 0;
+        }
+        others = null;
+    }
+
+    @Override public Object get(Object key) {
+        if (key == null)
+            return null;
+        int index = indexOf(key);
+        if (index != -1) {
+            Object value = values[index];
+            return value == ABSENT ? null : value;
+        }
+        return others == null ? null : others.get(key);
+    }
+
+    @Override public boolean containsKey(Object key) {
+        if (key == null)
+            return false;
+        int index = indexOf(key);
+        if (index != -1)
+            return values[index] != ABSENT;
+        return others != null && others.containsKey(key);
+    }
+
+    @Override public int size() {
+        return others == null ? size : size + others.size();
+    }
+
+    @Override public void forEach(BiConsumer<? super String, ? super Object> action) {
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (value != ABSENT)
+                action.accept(names.get(i), value);
+        }
+        if (others != null)
+            others.forEach(action);
+    }
+
+    @Override public @NotNull Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+            @Override public @NotNull Iterator<Entry<String, Object>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override public int size() {
+                return ResolvedArguments.this.size();
+            }
+        };
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, Object>> {
+
+        private int index = nextIndex(0);
+        private @Nullable Iterator<Entry<String, Object>> othersIterator;
+
+        private int nextIndex(int from) {
+            while (from < values.length && values[from] == ABSENT)
+                from++;
+            return from;
+        }
+
+        @Override public boolean hasNext() {
+            if (index < values.length)
+                return true;
+            if (othersIterator == null && others != null)
+                othersIterator = Collections.unmodifiableMap(others).entrySet().iterator();
+            return othersIterator != null && othersIterator.hasNext();
+        }
+
+        @Override public Entry<String, Object> next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            if (othersIterator != null)
+                return othersIterator.next();
+            Entry<String, Object> entry = new SimpleImmutableEntry<>(names.get(index), values[index]);
+            index = nextIndex(index + 1);
+            return entry;
+        }
+    }
+}
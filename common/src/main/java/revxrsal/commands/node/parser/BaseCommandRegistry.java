@@ -37,6 +37,9 @@ import revxrsal.commands.command.ExecutableCommand;
 import revxrsal.commands.command.Potential;
 import revxrsal.commands.exception.UnknownCommandException;
 import revxrsal.commands.exception.context.ErrorContext;
+import revxrsal.commands.metrics.LampEvent;
+import revxrsal.commands.metrics.LampEvents;
+import revxrsal.commands.metrics.LampMetrics;
 import revxrsal.commands.node.CommandRegistry;
 import revxrsal.commands.reflect.MethodCaller.BoundMethodCaller;
 import revxrsal.commands.reflect.MethodCallerFactory;
@@ -51,20 +54,32 @@ import java.util.*;
 import java.util.function.Predicate;
 
 import static revxrsal.commands.util.Collections.copyList;
-import static revxrsal.commands.util.Collections.unmodifiableIterator;
+import static revxrsal.commands.util.Collections.insertSorted;
 import static revxrsal.commands.util.Reflections.getAllMethods;
 
+/**
+ * The default {@link CommandRegistry} implementation.
+ * <p>
+ * All the registered commands are held in an immutable {@link Snapshot}. Readers
+ * (dispatching, auto-completion, help, etc.) simply read the latest snapshot
+ * without any locking, while writers (registering and unregistering) build
+ * a new snapshot and publish it. Writers are serialized between each other,
+ * but never block readers.
+ *
+ * @param <A> The actor type
+ */
 @ApiStatus.Internal
 public final class BaseCommandRegistry<A extends CommandActor> implements CommandRegistry<A> {
 
-    private final List<ExecutableCommand<A>> children;
-    private final List<ExecutableCommand<A>> unmodifiableChildren;
     private final Lamp<A> lamp;
+    private final Object writeLock = new Object();
+    private volatile Snapshot<A> snapshot;
 
     public BaseCommandRegistry(Lamp<A> lamp, List<ExecutableCommand<A>> children) {
-        this.children = children;
         this.lamp = lamp;
-        unmodifiableChildren = Collections.unmodifiableList(children);
+        List<ExecutableCommand<A>> commands = new ArrayList<>(children);
+        Collections.sort(commands);
+        this.snapshot = new Snapshot<>(commands, CommandTrie.<A>empty().withAll(commands));
     }
 
     public BaseCommandRegistry(Lamp<A> lamp) {
@@ -76,8 +91,29 @@ public final class BaseCommandRegistry<A extends CommandActor> implements Comman
     }
 
     @NotNull
-    @SneakyThrows
     public @Unmodifiable List<ExecutableCommand<A>> register(@NotNull Class<?> containerClass, Object instance, @Nullable List<String> orphanPaths) {
+        List<ExecutableCommand<A>> registered = createCommands(containerClass, instance, orphanPaths);
+        addAll(registered);
+        return copyList(registered);
+    }
+
+    /**
+     * Parses all the commands in the given class, without adding them
+     * to this registry. Commands that have been cancelled by a
+     * {@link revxrsal.commands.hook.CommandRegisteredHook} are not included.
+     * <p>
+     * The returned commands should then be passed to {@link #addAll(Collection)}.
+     * This allows registering many classes and only sorting the
+     * registry once at the end.
+     *
+     * @param containerClass The command class
+     * @param instance       The command instance
+     * @param orphanPaths    The orphan paths, if this is an orphan command
+     * @return The created commands
+     */
+    @NotNull
+    @SneakyThrows
+    public List<ExecutableCommand<A>> createCommands(@NotNull Class<?> containerClass, Object instance, @Nullable List<String> orphanPaths) {
         injectDependencies(containerClass, instance);
         List<ExecutableCommand<A>> registered = new ArrayList<>();
         for (Method method : getAllMethods(containerClass, true)) {
@@ -105,13 +141,11 @@ public final class BaseCommandRegistry<A extends CommandActor> implements Comman
             for (String path : CommandPaths.parseCommandAnnotations(containerClass, fn)) {
                 MutableStringStream stream = StringStream.createMutable(path);
                 ExecutableCommand<A> target = TreeParser.parse(fn, lamp, stream);
-                if (lamp.hooks().onCommandRegistered(target)) {
-                    add(target);
+                if (lamp.hooks().onCommandRegistered(target))
                     registered.add(target);
-                }
             }
         }
-        return copyList(registered);
+        return registered;
     }
 
     private boolean isCommandMethod(AnnotationList annotations) {
@@ -134,9 +168,27 @@ public final class BaseCommandRegistry<A extends CommandActor> implements Comman
         }
     }
 
-    private void add(@NotNull ExecutableCommand<A> command) {
-        children.add(command);
-        Collections.sort(children);
+    /**
+     * Adds all the given commands to this registry. The registry
+     * is only sorted once.
+     *
+     * @param commands Commands to add
+     */
+    public void addAll(@NotNull Collection<ExecutableCommand<A>> commands) {
+        if (commands.isEmpty())
+            return;
+        synchronized (writeLock) {
+            Snapshot<A> current = snapshot;
+            List<ExecutableCommand<A>> newCommands = new ArrayList<>(current.commands.size() + commands.size());
+            newCommands.addAll(current.commands);
+            if (commands.size() == 1) {
+                insertSorted(newCommands, commands.iterator().next());
+            } else {
+                newCommands.addAll(commands);
+                Collections.sort(newCommands);
+            }
+            snapshot = new Snapshot<>(newCommands, current.index.withAll(commands));
+        }
     }
 
     @Override
@@ -152,63 +204,163 @@ public final class BaseCommandRegistry<A extends CommandActor> implements Comman
         return lamp;
     }
 
+    /**
+     * Executes the command that best matches the input.
+     * <p>
+     * Candidates are tested in their natural order, which is the order that
+     * decides between several matching commands. The first candidate that
+     * consumes all the input is executed right away, and the rest are never
+     * parsed. If none does, the first candidate that succeeded is executed.
+     * <p>
+     * Failures are only collected while no candidate has succeeded, and at most
+     * {@link revxrsal.commands.node.DispatcherSettings#maximumFailedAttempts()} of
+     * them are kept for the {@link revxrsal.commands.node.FailureHandler}. Testing
+     * continues past that limit, as a later candidate may still succeed.
+     *
+     * @param actor The actor
+     * @param input The input
+     */
     @Override
     public void execute(@NotNull A actor, @NotNull StringStream input) {
-        LinkedList<Potential<A>> conflicts = new LinkedList<>();
-        LinkedList<Potential<A>> failed = new LinkedList<>();
-        String firstWord = input.peekUnquotedString();
-        for (ExecutableCommand<A> execution : children) {
-            // an easy way to exclude irrelevant nodes
-            if (!execution.firstNode().name().equalsIgnoreCase(firstWord))
-                continue;
-
+        LampMetrics metrics = lamp.metrics();
+        long start = metrics.isEnabled() ? System.nanoTime() : 0;
+        LampEvents events = lamp.events();
+        LampEvent dispatchEvent = events.dispatch();
+        int candidates = 0;
+        List<Potential<A>> failed = new ArrayList<>();
+        Potential<A> partial = null;
+        int maximumFailedAttempts = lamp.dispatcherSettings().maximumFailedAttempts();
+        // all candidates share the same view of the input in their contexts
+        StringStream original = input.isMutable() ? input.toImmutableCopy() : input;
+        // only commands whose literal prefix matches the input are tested
+        for (ExecutableCommand<A> execution : snapshot.index.candidates(input)) {
+            candidates++;
             MutableStringStream in = input.toMutableCopy();
-            Potential<A> potential = execution.test(actor, in);
-
-            if (conflicts.size() >= lamp.dispatcherSettings().maximumFailedAttempts())
-                break;
+            LampEvent testEvent = events.potentialTest();
+            Potential<A> potential = execution instanceof Execution
+                    ? ((Execution<A>) execution).test(actor, in, original)
+                    : execution.test(actor, in);
+            if (testEvent.shouldCommit())
+                testEvent.commit(actor.name(), execution.path(), null, LampEvent.outcome(potential.successful()));
 
             if (potential.successful()) {
-                conflicts.add(potential);
-            } else {
+                if (consumedAllInput(potential)) {
+                    potential.execute();
+                    finishDispatch(actor, input, metrics, start, candidates, dispatchEvent, potential);
+                    return;
+                }
+                if (partial == null)
+                    partial = potential;
+            } else if (partial == null && failed.size() < maximumFailedAttempts) {
                 failed.add(potential);
             }
         }
-        if (conflicts.isEmpty()) {
-            if (failed.isEmpty()) {
-                lamp.handleException(new UnknownCommandException(firstWord), ErrorContext.unknownCommand(actor));
-                return;
-            }
+        if (partial != null) {
+            partial.execute();
+        } else if (failed.isEmpty()) {
+            lamp.handleException(new UnknownCommandException(input.peekUnquotedString()), ErrorContext.unknownCommand(actor));
+        } else {
             lamp.dispatcherSettings().failureHandler().handleFailedAttempts(actor, Collections.unmodifiableList(failed), input);
-            return;
         }
-        Collections.sort(conflicts);
-        conflicts.getFirst().execute();
+        finishDispatch(actor, input, metrics, start, candidates, dispatchEvent, partial);
+    }
+
+    private static <A extends CommandActor> void finishDispatch(
+            @NotNull A actor,
+            @NotNull StringStream input,
+            @NotNull LampMetrics metrics,
+            long start,
+            int candidates,
+            @NotNull LampEvent event,
+            @Nullable Potential<A> executed
+    ) {
+        if (metrics.isEnabled())
+            metrics.recordDispatch(candidates, executed != null, System.nanoTime() - start);
+        if (event.shouldCommit()) {
+            String command = executed == null ? null : executed.context().command().path();
+            event.commit(actor.name(), command, input.source(), LampEvent.outcome(executed != null));
+        }
+    }
+
+    private static boolean consumedAllInput(@NotNull Potential<?> potential) {
+        return !(potential instanceof Execution.ParseResult) || ((Execution.ParseResult<?>) potential).consumedAllInput();
+    }
+
+    /**
+     * Returns the commands that may offer completions for the given input,
+     * sorted by their natural ordering. This only visits the commands whose
+     * literals match the input, rather than all the registered commands.
+     *
+     * @param input The input to complete
+     * @return The commands to complete with
+     */
+    public @NotNull List<ExecutableCommand<A>> completionCandidates(@NotNull StringStream input) {
+        return snapshot.index.completionCandidates(input);
     }
 
-    @Override public @NotNull @UnmodifiableView List<ExecutableCommand<A>> commands() {
-        return unmodifiableChildren;
+    @Override public @NotNull @Unmodifiable List<ExecutableCommand<A>> commands() {
+        return snapshot.commands;
     }
 
     @Override public void unregister(@NotNull ExecutableCommand<A> execution) {
-        children.remove(execution);
+        synchronized (writeLock) {
+            Snapshot<A> current = snapshot;
+            if (!current.commands.contains(execution))
+                return;
+            List<ExecutableCommand<A>> newCommands = new ArrayList<>(current.commands);
+            newCommands.remove(execution);
+            snapshot = new Snapshot<>(newCommands, current.index.without(execution));
+        }
     }
 
     @Override public boolean any(@NotNull Predicate<@NotNull ExecutableCommand<A>> matches) {
-        return revxrsal.commands.util.Collections.any(children, matches);
+        return revxrsal.commands.util.Collections.any(snapshot.commands, matches);
     }
 
     @Override
     public @NotNull List<ExecutableCommand<A>> filter(@NotNull Predicate<@NotNull ExecutableCommand<A>> filterPredicate) {
-        return revxrsal.commands.util.Collections.filter(children, filterPredicate);
+        return revxrsal.commands.util.Collections.filter(snapshot.commands, filterPredicate);
     }
 
     @Override public void unregisterIf(@NotNull Predicate<ExecutableCommand<A>> matches) {
-        children.removeIf(matches);
+        synchronized (writeLock) {
+            Snapshot<A> current = snapshot;
+            List<ExecutableCommand<A>> remaining = new ArrayList<>(current.commands.size());
+            for (ExecutableCommand<A> command : current.commands) {
+                if (!matches.test(command))
+                    remaining.add(command);
+            }
+            if (remaining.size() == current.commands.size())
+                return;
+            snapshot = new Snapshot<>(remaining, CommandTrie.<A>empty().withAll(remaining));
+        }
     }
 
     @Override public @NotNull Iterator<ExecutableCommand<A>> iterator() {
-        return unmodifiableIterator(children.iterator());
+        return snapshot.commands.iterator();
+    }
+
+    /**
+     * An immutable view of the registry at a certain point in time
+     *
+     * @param <A> The actor type
+     */
+    private static final class Snapshot<A extends CommandActor> {
+
+        /**
+         * All the commands, sorted by their natural ordering
+         */
+        private final @Unmodifiable List<ExecutableCommand<A>> commands;
+
+        /**
+         * The commands, indexed by their literal paths
+         */
+        private final CommandTrie<A> index;
+
+        private Snapshot(@NotNull List<ExecutableCommand<A>> commands, @NotNull CommandTrie<A> index) {
+            this.commands = Collections.unmodifiableList(commands);
+            this.index = index;
+        }
     }
 
     private static final class DynamicCommand implements Command {
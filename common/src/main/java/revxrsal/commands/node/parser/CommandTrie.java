@@ -0,0 +1,291 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.node.parser;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+import revxrsal.commands.command.CommandActor;
+import revxrsal.commands.command.ExecutableCommand;
+import revxrsal.commands.node.CommandNode;
+import revxrsal.commands.node.LiteralNode;
+import revxrsal.commands.stream.MutableStringStream;
+import revxrsal.commands.stream.StringStream;
+
+import java.util.*;
+
+import static revxrsal.commands.util.Collections.insertSorted;
+
+/**
+ * An index of {@link ExecutableCommand}s keyed by their leading literal
+ * nodes. Literals are case-folded, so lookups behave like
+ * {@link String#equalsIgnoreCase(String)}.
+ * <p>
+ * Each command is stored at the trie node that corresponds to its longest
+ * literal prefix. For example, {@code foo bar <baz>} is stored under
+ * {@code foo -> bar}. Looking up an input then only visits the nodes
+ * along the path of its words, instead of every registered command.
+ * <p>
+ * The children of each node are sorted by their literals, so all the
+ * literals that start with a certain prefix can be found without visiting
+ * the other children.
+ * <p>
+ * Tries are immutable, and are therefore safe to read from any thread.
+ * Adding or removing commands returns a new trie that shares all the
+ * untouched branches with the original one.
+ *
+ * @param <A> The actor type
+ */
+final class CommandTrie<A extends CommandActor> {
+
+    private static final CommandTrie<?> EMPTY = new CommandTrie<>(
+            Collections.emptyNavigableMap(),
+            Collections.emptyList()
+    );
+
+    private final @Unmodifiable NavigableMap<String, CommandTrie<A>> children;
+    private final @Unmodifiable List<ExecutableCommand<A>> commands;
+
+    private CommandTrie(
+            @NotNull NavigableMap<String, CommandTrie<A>> children,
+            @NotNull List<ExecutableCommand<A>> commands
+    ) {
+        this.children = children;
+        this.commands = commands;
+    }
+
+    /**
+     * Returns the empty trie
+     *
+     * @param <A> The actor type
+     * @return The empty trie
+     */
+    @SuppressWarnings("unchecked")
+    public static <A extends CommandActor> @NotNull CommandTrie<A> empty() {
+        return (CommandTrie<A>) EMPTY;
+    }
+
+    /**
+     * Folds the given literal into the key used by the trie
+     *
+     * @param literal Literal to fold
+     * @return The trie key
+     */
+    private static @NotNull String fold(@NotNull String literal) {
+        return literal.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the trie key of the node at the given index, or {@code null}
+     * if the command should be stored at this depth.
+     */
+    private static <A extends CommandActor> String keyAt(@NotNull ExecutableCommand<A> command, int index) {
+        List<CommandNode<A>> nodes = command.nodes();
+        if (index == nodes.size() || !(nodes.get(index) instanceof LiteralNode))
+            return null;
+        return fold(nodes.get(index).name());
+    }
+
+    /**
+     * Returns a new trie that contains the given commands in addition
+     * to the commands of this trie
+     *
+     * @param commands Commands to add
+     * @return The new trie
+     */
+    @Contract(pure = true)
+    public @NotNull CommandTrie<A> withAll(@NotNull Collection<ExecutableCommand<A>> commands) {
+        if (commands.isEmpty())
+            return this;
+        return withAll(commands, 0);
+    }
+
+    private @NotNull CommandTrie<A> withAll(@NotNull Collection<ExecutableCommand<A>> added, int depth) {
+        List<ExecutableCommand<A>> here = new ArrayList<>(0);
+        Map<String, List<ExecutableCommand<A>>> byChild = new HashMap<>();
+        for (ExecutableCommand<A> command : added) {
+            String key = keyAt(command, depth);
+            if (key == null)
+                here.add(command);
+            else
+                byChild.computeIfAbsent(key, k -> new ArrayList<>()).add(command);
+        }
+        List<ExecutableCommand<A>> newCommands = commands;
+        if (!here.isEmpty()) {
+            List<ExecutableCommand<A>> copy = new ArrayList<>(commands);
+            if (here.size() == 1) {
+                insertSorted(copy, here.get(0));
+            } else {
+                copy.addAll(here);
+                Collections.sort(copy);
+            }
+            newCommands = unmodifiable(copy);
+        }
+        NavigableMap<String, CommandTrie<A>> newChildren = children;
+        if (!byChild.isEmpty()) {
+            NavigableMap<String, CommandTrie<A>> copy = new TreeMap<>(children);
+            for (Map.Entry<String, List<ExecutableCommand<A>>> entry : byChild.entrySet()) {
+                CommandTrie<A> child = children.getOrDefault(entry.getKey(), empty());
+                copy.put(entry.getKey(), child.withAll(entry.getValue(), depth + 1));
+            }
+            newChildren = unmodifiable(copy);
+        }
+        return new CommandTrie<>(newChildren, newCommands);
+    }
+
+    /**
+     * Returns a new trie that does not contain the given command, pruning
+     * any nodes that become empty. If the command is not in the trie,
+     * this returns the same trie.
+     *
+     * @param command Command to remove
+     * @return The new trie
+     */
+    @Contract(pure = true)
+    public @NotNull CommandTrie<A> without(@NotNull ExecutableCommand<A> command) {
+        return without(command, 0);
+    }
+
+    private @NotNull CommandTrie<A> without(@NotNull ExecutableCommand<A> command, int depth) {
+        String key = keyAt(command, depth);
+        if (key == null) {
+            if (!commands.contains(command))
+                return this;
+            List<ExecutableCommand<A>> newCommands = new ArrayList<>(commands);
+            newCommands.remove(command);
+            return new CommandTrie<>(children, unmodifiable(newCommands));
+        }
+        CommandTrie<A> child = children.get(key);
+        if (child == null)
+            return this;
+        CommandTrie<A> newChild = child.without(command, depth + 1);
+        if (newChild == child)
+            return this;
+        NavigableMap<String, CommandTrie<A>> newChildren = new TreeMap<>(children);
+        if (newChild.isEmpty())
+            newChildren.remove(key);
+        else
+            newChildren.put(key, newChild);
+        return new CommandTrie<>(unmodifiable(newChildren), commands);
+    }
+
+    /**
+     * Returns all commands whose literal prefix matches the words of the
+     * given input. The input is not modified.
+     * <p>
+     * If no command matches, this returns all the commands under the
+     * deepest literal that has been matched, so that they can be reported
+     * back to the user as possible alternatives.
+     * <p>
+     * The returned list is sorted according to the commands' natural
+     * ordering.
+     *
+     * @param input The input to match
+     * @return The matching commands
+     */
+    public @NotNull List<ExecutableCommand<A>> candidates(@NotNull StringStream input) {
+        MutableStringStream words = input.toMutableCopy();
+        List<ExecutableCommand<A>> candidates = new ArrayList<>();
+        CommandTrie<A> node = this;
+        int visitedBuckets = 0;
+        while (words.hasRemaining()) {
+            CommandTrie<A> next = node.children.get(fold(words.readUnquotedString()));
+            if (next == null)
+                break;
+            node = next;
+            if (!node.commands.isEmpty()) {
+                candidates.addAll(node.commands);
+                visitedBuckets++;
+            }
+            if (words.hasRemaining() && words.peek() == ' ')
+                words.skipWhitespace();
+        }
+        if (candidates.isEmpty() && node != this) {
+            node.collectAll(candidates);
+            visitedBuckets = 2;
+        }
+        if (visitedBuckets > 1)
+            Collections.sort(candidates);
+        return candidates;
+    }
+
+    /**
+     * Returns all commands that may offer completions for the given input.
+     * The input is not modified.
+     * <p>
+     * These are the commands whose literal prefix matches the complete words
+     * of the input, as well as the commands under every literal that starts
+     * with the word that is currently being typed. Commands that are stored
+     * along the way are included too, as their parameters may be the ones
+     * being completed.
+     * <p>
+     * The returned list is sorted according to the commands' natural
+     * ordering.
+     *
+     * @param input The input to complete
+     * @return The commands to complete with
+     */
+    public @NotNull List<ExecutableCommand<A>> completionCandidates(@NotNull StringStream input) {
+        MutableStringStream words = input.toMutableCopy();
+        List<ExecutableCommand<A>> candidates = new ArrayList<>();
+        CommandTrie<A> node = this;
+        while (true) {
+            candidates.addAll(node.commands);
+            String word = words.hasFinished() ? "" : words.readUnquotedString();
+            if (words.hasFinished()) {
+                String prefix = fold(word);
+                for (Map.Entry<String, CommandTrie<A>> child : node.children.tailMap(prefix, true).entrySet()) {
+                    if (!child.getKey().startsWith(prefix))
+                        break;
+                    child.getValue().collectAll(candidates);
+                }
+                break;
+            }
+            node = node.children.get(fold(word));
+            if (node == null)
+                break;
+            words.skipWhitespace();
+        }
+        Collections.sort(candidates);
+        return candidates;
+    }
+
+    private void collectAll(@NotNull List<ExecutableCommand<A>> into) {
+        into.addAll(commands);
+        for (CommandTrie<A> child : children.values())
+            child.collectAll(into);
+    }
+
+    private boolean isEmpty() {
+        return children.isEmpty() && commands.isEmpty();
+    }
+
+    private static <K, V> @NotNull NavigableMap<K, V> unmodifiable(@NotNull NavigableMap<K, V> map) {
+        return map.isEmpty() ? Collections.emptyNavigableMap() : Collections.unmodifiableNavigableMap(map);
+    }
+
+    private static <T> @NotNull List<T> unmodifiable(@NotNull List<T> list) {
+        return list.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(list);
+    }
+}
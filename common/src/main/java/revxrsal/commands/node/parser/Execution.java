@@ -36,14 +36,20 @@ import revxrsal.commands.exception.ExpectedLiteralException;
 import revxrsal.commands.exception.InputParseException;
 import revxrsal.commands.exception.context.ErrorContext;
 import revxrsal.commands.help.Help;
+import revxrsal.commands.metrics.LampEvent;
+import revxrsal.commands.metrics.LampMetrics;
 import revxrsal.commands.node.*;
+import revxrsal.commands.parameter.ParseAttempt;
 import revxrsal.commands.process.CommandCondition;
 import revxrsal.commands.stream.MutableStringStream;
+import revxrsal.commands.stream.StringStream;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 import static java.util.Collections.unmodifiableMap;
 import static revxrsal.commands.exception.context.ErrorContext.executingFunction;
+import static revxrsal.commands.reflect.ktx.KotlinConstants.isKotlinClass;
 import static revxrsal.commands.util.Collections.*;
 
 final class Execution<A extends CommandActor> implements ExecutableCommand<A> {
@@ -51,6 +57,7 @@ final class Execution<A extends CommandActor> implements ExecutableCommand<A> {
     private final CommandFunction function;
     private final List<CommandNode<A>> nodes;
     private final @Unmodifiable Map<String, ParameterNode<A, Object>> parameters;
+    private final @Unmodifiable List<String> parameterNames;
     private final CommandPermission<A> permission;
     private final int size;
     private final boolean isSecret;
@@ -66,6 +73,7 @@ final class Execution<A extends CommandActor> implements ExecutableCommand<A> {
         this.function = function;
         this.nodes = nodes;
         this.parameters = computeParameters();
+        this.parameterNames = copyList(parameters.keySet());
         this.size = nodes.size();
         //noinspection unchecked
         this.permission = (CommandPermission<A>) function.lamp().createPermission(function.annotations());
@@ -182,7 +190,110 @@ final class Execution<A extends CommandActor> implements ExecutableCommand<A> {
 
     @Override
     public @NotNull Potential<A> test(@NotNull A actor, @NotNull MutableStringStream input) {
-        return new ParseResult<>(this, actor, input);
+        return new ParseResult<>(this, actor, input, input.toImmutableCopy());
+    }
+
+    /**
+     * Tests this command with the given input. This is similar to
+     * {@link #test(CommandActor, MutableStringStream)}, however it allows
+     * all candidates of the same input to share the same immutable view
+     * of the input in their {@link ExecutionContext}s.
+     *
+     * @param actor    The actor executing the command
+     * @param input    The input to parse
+     * @param original An immutable view of the input, at the same position
+     * @return The {@link Potential} result
+     */
+    @NotNull Potential<A> test(@NotNull A actor, @NotNull MutableStringStream input, @NotNull StringStream original) {
+        return new ParseResult<>(this, actor, input, original);
+    }
+
+    @Override
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public void execute(@NotNull A actor, @NotNull StringStream input, @NotNull ParsedArguments<A> arguments) {
+        StringStream original = input.isMutable() ? input.toImmutableCopy() : input;
+        MutableExecutionContext<A> context = ExecutionContext.createMutable(this, actor, original);
+        LampEvent testEvent = lamp().events().potentialTest();
+        boolean resolved = resolveAll(context, arguments);
+        if (testEvent.shouldCommit())
+            testEvent.commit(actor.name(), path(), null, LampEvent.outcome(resolved));
+        if (!resolved)
+            return;
+        try {
+            for (CommandCondition<? super A> condition : lamp().commandConditions())
+                condition.test((ExecutionContext) context);
+        } catch (Throwable t) {
+            lamp().handleException(t, executingFunction(context));
+            return;
+        }
+        if (lamp().hooks().onCommandExecuted(this, context))
+            lastNode().execute(context, original.toMutableCopy());
+    }
+
+    /**
+     * Resolves the values of all parameters from the given {@link ParsedArguments}.
+     * Flags are resolved first, like they are when parsing the input.
+     *
+     * @return {@code false} if any parameter failed to parse
+     */
+    @SuppressWarnings("unchecked")
+    private boolean resolveAll(@NotNull MutableExecutionContext<A> context, @NotNull ParsedArguments<A> arguments) {
+        for (ParameterNode<A, Object> parameter : parameters.values()) {
+            if ((parameter.isFlag() || parameter.isSwitch()) && !resolve(parameter, context, arguments))
+                return false;
+        }
+        for (CommandNode<A> node : nodes) {
+            if (!(node instanceof ParameterNode))
+                continue;
+            ParameterNode<A, Object> parameter = (ParameterNode<A, Object>) node;
+            if (!parameter.isFlag() && !parameter.isSwitch() && !resolve(parameter, context, arguments))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Resolves the value of a parameter from the given {@link ParsedArguments},
+     * parsing it if it only has an input.
+     *
+     * @return {@code false} if the parameter failed to parse, in which case the
+     * exception has been handled.
+     */
+    private boolean resolve(
+            @NotNull ParameterNode<A, Object> parameter,
+            @NotNull MutableExecutionContext<A> context,
+            @NotNull ParsedArguments<A> arguments
+    ) {
+        String input = arguments.input(parameter);
+        if (parameter.isSwitch()) {
+            if (input != null)
+                context.addResolvedArgument(parameter.name(), true);
+            else if (!isKotlinClass(function.method().getDeclaringClass()))
+                context.addResolvedArgument(parameter.name(), false);
+            return true;
+        }
+        if (input != null && arguments.hasValue(parameter)) {
+            context.addResolvedArgument(parameter.name(), arguments.value(parameter));
+            return true;
+        }
+        MutableStringStream stream = StringStream.createMutable(input == null ? "" : input);
+        LampMetrics metrics = lamp().metrics();
+        long start = metrics.isEnabled() ? System.nanoTime() : 0;
+        LampEvent event = lamp().events().parse();
+        boolean successful = false;
+        try {
+            context.addResolvedArgument(parameter.name(), parameter.parse(stream, context));
+            successful = true;
+            return true;
+        } catch (Throwable t) {
+            lamp().handleException(t, ErrorContext.parsingParameter(context, parameter, stream));
+            return false;
+        } finally {
+            if (metrics.isEnabled())
+                metrics.recordParse(parameter, successful, System.nanoTime() - start);
+            if (event.shouldCommit())
+                event.commit(context.actor().name(), path(), parameter.name(), LampEvent.outcome(successful));
+        }
     }
 
     @Override
@@ -241,6 +352,10 @@ final class Execution<A extends CommandActor> implements ExecutableCommand<A> {
         return parameters;
     }
 
+    @Override public @NotNull @Unmodifiable List<String> parameterNames() {
+        return parameterNames;
+    }
+
     @Override public boolean isSiblingOf(@NotNull ExecutableCommand<A> command) {
         String otherPath = ((Execution<A>) command).siblingPath;
         return command != this && otherPath.startsWith(siblingPath) || siblingPath.startsWith(otherPath);
@@ -329,18 +444,26 @@ final class Execution<A extends CommandActor> implements ExecutableCommand<A> {
         private @Nullable Throwable error;
         private @Nullable ErrorContext<A> errorContext;
 
-        public ParseResult(Execution<A> execution, A actor, MutableStringStream input) {
+        /**
+         * The error and its context, if they have not been created yet. Most
+         * failures are never reported, so creating them is deferred until
+         * they are requested.
+         */
+        private @Nullable Supplier<? extends Throwable> lazyError;
+        private @Nullable Supplier<ErrorContext<A>> lazyErrorContext;
+
+        public ParseResult(Execution<A> execution, A actor, MutableStringStream input, StringStream original) {
             this.execution = execution;
-            this.context = ExecutionContext.createMutable(execution, actor, input.toImmutableCopy());
+            this.context = ExecutionContext.createMutable(execution, actor, original);
             this.input = input;
             this.testResult = test();
         }
 
         private boolean test() {
             if (execution.containsFlags) {
-                MutableStringStream original = input.toMutableCopy();
+                int start = input.position();
                 if (!tryParseFlags()) {
-                    input = original;
+                    input.setPosition(start);
                     return false;
                 }
             }
@@ -392,6 +515,16 @@ final class Execution<A extends CommandActor> implements ExecutableCommand<A> {
             return testResult;
         }
 
+        /**
+         * Tests whether parsing consumed all the input. Candidates that do are
+         * preferred over ones that leave some input unparsed.
+         *
+         * @return If all the input was consumed
+         */
+        boolean consumedAllInput() {
+            return consumedAllInput;
+        }
+
         @Override
         public @NotNull ExecutionContext<A> context() {
             return context;
@@ -404,23 +537,38 @@ final class Execution<A extends CommandActor> implements ExecutableCommand<A> {
 
         @Override
         public void handleException() {
+            Throwable error = error();
+            ErrorContext<A> errorContext = errorContext();
             if (error != null && errorContext != null)
                 context().lamp().handleException(error, errorContext);
         }
 
         @Override
         public @Nullable Throwable error() {
+            if (lazyError != null) {
+                error = lazyError.get();
+                lazyError = null;
+            }
             return error;
         }
 
         @Override
         public @Nullable ErrorContext<A> errorContext() {
+            if (lazyErrorContext != null) {
+                errorContext = lazyErrorContext.get();
+                lazyErrorContext = null;
+            }
             return errorContext;
         }
 
+        private void fail(@NotNull Supplier<? extends Throwable> error, @NotNull Supplier<ErrorContext<A>> errorContext) {
+            this.lazyError = error;
+            this.lazyErrorContext = errorContext;
+        }
+
         @Override
         public void execute() {
-            if (error == null) {
+            if (error == null && lazyError == null) {
                 if (execution.lamp().hooks().onCommandExecuted(execution, context))
                     execution.lastNode().execute(context, input);
             }
@@ -447,29 +595,46 @@ final class Execution<A extends CommandActor> implements ExecutableCommand<A> {
             int pos = input.position();
             if (node instanceof LiteralNodeImpl) {
                 LiteralNodeImpl<A> l = (LiteralNodeImpl<A>) node;
-                String value = input.readUnquotedString();
-                if (node.name().equalsIgnoreCase(value)) {
+                String source = input.source();
+                String name = l.name();
+                int end = pos + name.length();
+                if (source.regionMatches(true, pos, name, 0, name.length())
+                        && (end == source.length() || Character.isWhitespace(source.charAt(end)))) {
+                    input.setPosition(end);
                     checkForSpace(input);
                     return true;
                 }
-                input.setPosition(pos);
-                error = new ExpectedLiteralException(value, (LiteralNode<CommandActor>) l);
-                errorContext = ErrorContext.parsingLiteral(context, l);
+                fail(
+                        () -> new ExpectedLiteralException(unquotedStringAt(source, pos), (LiteralNode<CommandActor>) l),
+                        () -> ErrorContext.parsingLiteral(context, l)
+                );
                 return false;
             }
             ParameterNodeImpl<A, Object> parameter = (ParameterNodeImpl<A, Object>) node;
-            try {
-                Object value = parameter.parse(input, context);
-                Lamp<A> lamp = execution.function().lamp();
-                context.addResolvedArgument(parameter.name(), value);
-                checkForSpace(input);
-                return true;
-            } catch (Throwable t) {
-                input.setPosition(pos);
-                error = t;
-                errorContext = ErrorContext.parsingParameter(context, parameter, input);
-                return false;
+            LampMetrics metrics = execution.lamp().metrics();
+            long start = metrics.isEnabled() ? System.nanoTime() : 0;
+            LampEvent event = execution.lamp().events().parse();
+            ParseAttempt<Object> attempt = parameter.tryParse(input, context);
+            if (metrics.isEnabled())
+                metrics.recordParse(parameter, attempt.successful(), System.nanoTime() - start);
+            if (event.shouldCommit())
+                event.commit(context.actor().name(), execution.path(), parameter.name(), LampEvent.outcome(attempt.successful()));
+            if (attempt.successful()) {
+                context.addResolvedArgument(parameter.name(), attempt.value());
+                if (!input.hasRemaining() || input.peek() == ' ')
+                    return true;
+                attempt = ParseAttempt.failure(() -> new InputParseException(InputParseException.Cause.EXPECTED_WHITESPACE));
             }
+            input.setPosition(pos);
+            fail(attempt::error, () -> ErrorContext.parsingParameter(context, parameter, input));
+            return false;
+        }
+
+        private static @NotNull String unquotedStringAt(@NotNull String source, int start) {
+            int end = start;
+            while (end < source.length() && !Character.isWhitespace(source.charAt(end)))
+                end++;
+            return source.substring(start, end);
         }
 
         private void checkForSpace(MutableStringStream input) {
@@ -482,7 +647,7 @@ final class Execution<A extends CommandActor> implements ExecutableCommand<A> {
             if (successful())
                 return "Potential(path=" + execution.path() + ", success=true)";
             else
-                return "Potential(path=" + execution.path() + ", success=false, error=" + error + ")";
+                return "Potential(path=" + execution.path() + ", success=false, error=" + error() + ")";
         }
     }
 }
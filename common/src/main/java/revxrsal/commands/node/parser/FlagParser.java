@@ -23,9 +23,11 @@
  */
 package revxrsal.commands.node.parser;
 
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import revxrsal.commands.command.CommandActor;
 import revxrsal.commands.exception.InputParseException;
+import revxrsal.commands.exception.MissingArgumentException;
 import revxrsal.commands.exception.UnknownParameterException;
 import revxrsal.commands.exception.context.ErrorContext;
 import revxrsal.commands.node.MutableExecutionContext;
@@ -35,6 +37,7 @@ import revxrsal.commands.stream.StringStream;
 import revxrsal.commands.util.Strings.StringRange;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
@@ -45,20 +48,47 @@ import static revxrsal.commands.reflect.ktx.KotlinConstants.isKotlinClass;
 import static revxrsal.commands.util.Collections.filter;
 import static revxrsal.commands.util.Strings.removeRanges;
 
-final class FlagParser<A extends CommandActor> {
+/**
+ * Parses the flags and switches of a command from an input, and removes
+ * them from it.
+ * <p>
+ * This is public so that platforms which parse positional arguments on
+ * their own can still use Lamp's flag syntax.
+ *
+ * @param <A> The actor type
+ */
+@ApiStatus.Internal
+public final class FlagParser<A extends CommandActor> {
 
     private final MutableExecutionContext<A> context;
     private final List<ParameterNode<A, Object>> parametersLeft;
     private final MutableStringStream input;
-    private final List<StringRange> rangesToRemove = new ArrayList<>();
+    private final List<StringRange> rangesToRemove = new ArrayList<>(0);
 
     private Throwable error;
     private ErrorContext<A> errorContext;
 
     public FlagParser(MutableExecutionContext<A> context, MutableStringStream input) {
+        this(context, input, context.command().parameters().values());
+    }
+
+    /**
+     * Creates a {@link FlagParser} that only parses the flags and switches
+     * in the given parameters.
+     *
+     * @param context    The context to resolve arguments into
+     * @param input      The input to parse
+     * @param parameters The parameters to parse. Parameters that are not
+     *                   flags or switches are ignored.
+     */
+    public FlagParser(
+            MutableExecutionContext<A> context,
+            MutableStringStream input,
+            Collection<ParameterNode<A, Object>> parameters
+    ) {
         this.context = context;
         this.parametersLeft = filter(
-                context.command().parameters().values(),
+                parameters,
                 parameter -> parameter.isSwitch() || parameter.isFlag()
         );
         this.input = input;
@@ -111,9 +141,16 @@ final class FlagParser<A extends CommandActor> {
         if (parameter.isSwitch()) {
             context.addResolvedArgument(parameter.name(), true);
         } else {
-            if (input.hasFinished() || input.peek() != ' ')
+            if (!input.hasFinished() && input.peek() != ' ') {
+                errorContext = ErrorContext.parsingParameter(context, parameter, input);
                 throw new InputParseException(InputParseException.Cause.EXPECTED_WHITESPACE);
+            }
             input.skipWhitespace();
+            if (input.hasFinished()) {
+                // the flag was specified without a value
+                errorContext = ErrorContext.parsingParameter(context, parameter, input);
+                throw new MissingArgumentException(parameter, parameter.command());
+            }
             parseFlag(context, parameter, input);
         }
     }
@@ -162,6 +199,12 @@ final class FlagParser<A extends CommandActor> {
     }
 
     public @NotNull MutableStringStream strippedInput() {
+        if (rangesToRemove.isEmpty()) {
+            // no flags were specified. re-use the same input rather
+            // than rebuilding the string
+            input.setPosition(0);
+            return input;
+        }
         String string = removeRanges(input.source(), rangesToRemove);
         return StringStream.createMutable(string);
     }
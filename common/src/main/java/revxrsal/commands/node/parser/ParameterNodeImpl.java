@@ -39,6 +39,7 @@ import revxrsal.commands.node.CommandNode;
 import revxrsal.commands.node.ExecutionContext;
 import revxrsal.commands.node.ParameterNode;
 import revxrsal.commands.parameter.ParameterType;
+import revxrsal.commands.parameter.ParseAttempt;
 import revxrsal.commands.stream.MutableStringStream;
 import revxrsal.commands.stream.MutableStringStreamImpl;
 import revxrsal.commands.stream.StringStream;
@@ -122,6 +123,27 @@ final class ParameterNodeImpl<A extends CommandActor, T> extends BaseCommandNode
         return type.parse(input, context);
     }
 
+    /**
+     * Parses the input like {@link #parse(MutableStringStream, ExecutionContext)},
+     * but returns failures instead of throwing them.
+     *
+     * @param input   The input
+     * @param context The execution context
+     * @return The parse attempt
+     * @see ParameterType#tryParse(MutableStringStream, ExecutionContext)
+     */
+    @NotNull ParseAttempt<T> tryParse(MutableStringStream input, ExecutionContext<A> context) {
+        if (input.hasFinished() || !permission.isExecutableBy(context.actor())) {
+            // default values, missing arguments and permissions are rare
+            try {
+                return ParseAttempt.success(parse(input, context));
+            } catch (Throwable t) {
+                return ParseAttempt.failure(t);
+            }
+        }
+        return type.tryParse(input, context);
+    }
+
     private void checkForPermission(ExecutionContext<A> context) {
         if (!permission.isExecutableBy(context.actor()))
             throw new NoPermissionException(this);
@@ -24,59 +24,170 @@
 package revxrsal.commands.node.parser;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import revxrsal.commands.Lamp;
 import revxrsal.commands.command.CommandActor;
 import revxrsal.commands.command.CommandFunction;
 import revxrsal.commands.command.CommandParameter;
+import revxrsal.commands.command.ExecutableCommand;
 import revxrsal.commands.exception.context.ErrorContext;
+import revxrsal.commands.metrics.LampEvent;
+import revxrsal.commands.metrics.LampMetrics;
 import revxrsal.commands.node.CommandAction;
 import revxrsal.commands.node.ExecutionContext;
+import revxrsal.commands.node.ParameterNode;
+import revxrsal.commands.node.ResolvedArguments;
 import revxrsal.commands.parameter.ContextParameter;
+import revxrsal.commands.process.ParameterValidator;
+import revxrsal.commands.response.ResponseHandler;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
+/**
+ * A {@link CommandAction} that invokes a {@link CommandFunction}.
+ * <p>
+ * The arguments of the function are bound using a plan that is compiled
+ * once per command: an array of bindings, each of which writes a single
+ * method argument, either from a {@link ContextParameter} or from an
+ * argument that was parsed into a slot of the {@link ExecutionContext}.
+ * Parsed arguments carry the {@link ParameterValidator}s that apply to
+ * their type, so no validator is tested against a parameter it can never
+ * validate.
+ */
 public final class ReflectionAction<A extends CommandActor> implements CommandAction<A> {
 
     private final CommandFunction function;
-    private final Map<Integer, ParameterSupplier<A>> parameters = new HashMap<>();
+    private final List<Binding<A>> contextParameters = new ArrayList<>();
+    private @Nullable Plan<A> plan;
 
     public ReflectionAction(CommandFunction function) {
         this.function = function;
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public void execute(ExecutionContext<A> context) {
+        LampMetrics metrics = context.lamp().metrics();
+        long start = metrics.isEnabled() ? System.nanoTime() : 0;
         try {
+            Plan<A> plan = this.plan;
+            if (plan == null)
+                plan = this.plan = compile(context.command(), context.lamp());
             Object[] arguments = new Object[function.method().getParameterCount()];
-            parameters.forEach((index, parameter) -> {
-                arguments[index] = parameter.get(context);
-            });
-            context.resolvedArguments().forEach((parameterName, value) -> {
-                context.lamp().validate(
-                        context.actor(),
-                        value,
-                        context.command().parameter(parameterName)
-                );
-                int index = function.parameter(parameterName).methodIndex();
-                arguments[index] = value;
-            });
+            ResolvedArguments resolved = plan.slotsOf(context);
+            for (Binding<A> binding : plan.bindings) {
+                binding.bind(context, resolved, arguments);
+            }
 
             Object result = function.call(arguments);
             if (result != null) {
-                //noinspection rawtypes
-                function.responseHandler().handleResponse(result, (ExecutionContext) context);
+                LampEvent event = context.lamp().events().response();
+                @SuppressWarnings("unchecked")
+                ResponseHandler<A, Object> responseHandler = (ResponseHandler<A, Object>) function.<Object>responseHandler();
+                responseHandler.handleResponse(result, context);
+                if (event.shouldCommit())
+                    event.commit(context.actor().name(), context.command().path(), result.getClass().getName(), LampEvent.SUCCESS);
             }
+            if (metrics.isEnabled())
+                metrics.recordExecution(context.command(), true, System.nanoTime() - start);
         } catch (Throwable t) {
+            if (metrics.isEnabled())
+                metrics.recordExecution(context.command(), false, System.nanoTime() - start);
             context.lamp().handleException(t, ErrorContext.executingFunction(context));
         }
     }
 
     void addContextParameter(CommandParameter parameter, ContextParameter<A, ?> contextParameter) {
-        parameters.put(parameter.methodIndex(), context -> contextParameter.resolve(parameter, context));
+        int index = parameter.methodIndex();
+        contextParameters.add((context, resolved, arguments) -> {
+            arguments[index] = contextParameter.resolve(parameter, context);
+        });
+    }
+
+    /**
+     * Compiles the binding plan of the given command. This is invoked
+     * by the {@link TreeParser} once the command has been created.
+     *
+     * @param command The command that this action executes
+     * @param lamp    The {@link Lamp} instance
+     * @return The compiled plan
+     */
+    Plan<A> compile(@NotNull ExecutableCommand<A> command, @NotNull Lamp<A> lamp) {
+        List<String> names = command.parameterNames();
+        List<Binding<A>> bindings = new ArrayList<>(contextParameters.size() + names.size());
+        bindings.addAll(contextParameters);
+        for (int slot = 0; slot < names.size(); slot++) {
+            ParameterNode<A, Object> parameter = command.parameter(names.get(slot));
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            ParameterValidator<A, Object>[] validators = lamp.parameterValidators(parameter.type())
+                    .toArray(new ParameterValidator[0]);
+            bindings.add(new ArgumentBinding<>(slot, parameter, validators));
+        }
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Binding<A>[] planBindings = bindings.toArray(new Binding[0]);
+        Plan<A> plan = new Plan<>(names, planBindings);
+        this.plan = plan;
+        return plan;
     }
 
-    private interface ParameterSupplier<A extends CommandActor> {
-        Object get(@NotNull ExecutionContext<A> context);
+    private static final class Plan<A extends CommandActor> {
+
+        private final List<String> names;
+        private final Binding<A>[] bindings;
+
+        private Plan(List<String> names, Binding<A>[] bindings) {
+            this.names = names;
+            this.bindings = bindings;
+        }
+
+        /**
+         * Returns the slots of the context's arguments if they line up with
+         * this plan, otherwise {@code null}.
+         */
+        private @Nullable ResolvedArguments slotsOf(@NotNull ExecutionContext<A> context) {
+            Map<String, Object> arguments = context.resolvedArguments();
+            if (arguments instanceof ResolvedArguments && ((ResolvedArguments) arguments).names() == names)
+                return (ResolvedArguments) arguments;
+            return null;
+        }
+    }
+
+    private interface Binding<A extends CommandActor> {
+        void bind(@NotNull ExecutionContext<A> context, @Nullable ResolvedArguments resolved, @NotNull Object[] arguments);
+    }
+
+    private static final class ArgumentBinding<A extends CommandActor> implements Binding<A> {
+
+        private final int slot;
+        private final int methodIndex;
+        private final ParameterNode<A, Object> parameter;
+        private final ParameterValidator<A, Object>[] validators;
+
+        private ArgumentBinding(int slot, ParameterNode<A, Object> parameter, ParameterValidator<A, Object>[] validators) {
+            this.slot = slot;
+            this.methodIndex = parameter.parameter().methodIndex();
+            this.parameter = parameter;
+            this.validators = validators;
+        }
+
+        @Override
+        public void bind(@NotNull ExecutionContext<A> context, @Nullable ResolvedArguments resolved, @NotNull Object[] arguments) {
+            Object value;
+            if (resolved != null) {
+                if (!resolved.has(slot))
+                    return;
+                value = resolved.valueAt(slot);
+            } else {
+                Map<String, Object> byName = context.resolvedArguments();
+                if (!byName.containsKey(parameter.name()))
+                    return;
+                value = byName.get(parameter.name());
+            }
+            for (ParameterValidator<A, Object> validator : validators) {
+                validator.validate(context.actor(), value, parameter, context.lamp());
+            }
+            arguments[methodIndex] = value;
+        }
     }
 }
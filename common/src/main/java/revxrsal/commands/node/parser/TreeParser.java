@@ -132,6 +132,7 @@ public final class TreeParser<A extends CommandActor> {
             ((BaseCommandNode) node).setCommand(executableCommand);
             ((BaseCommandNode) node).setLamp(lamp);
         });
+        action.compile(executableCommand, lamp);
         return executableCommand;
     }
 
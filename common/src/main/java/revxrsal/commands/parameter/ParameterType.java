@@ -91,6 +91,34 @@ public interface ParameterType<A extends CommandActor, T> extends BaseParameterT
             @NotNull ExecutionContext<@NotNull A> context
     );
 
+    /**
+     * Attempts to parse the input like {@link #parse(MutableStringStream, ExecutionContext)},
+     * but returns failures instead of throwing them.
+     * <p>
+     * Lamp tries to parse the input against every command that may match it, and
+     * only reports the error of one of them. Parameter types that fail often (for example,
+     * numbers that compete with other overloads) can implement this method to avoid
+     * creating exceptions that are thrown away. Failures should create their exception
+     * lazily, with {@link ParseAttempt#failure(java.util.function.Supplier)}.
+     * <p>
+     * The default implementation calls {@link #parse(MutableStringStream, ExecutionContext)}
+     * and catches its exceptions.
+     *
+     * @param input   The input stream
+     * @param context The execution context
+     * @return The parsed value, or the failure
+     */
+    default @NotNull ParseAttempt<T> tryParse(
+            @NotNull MutableStringStream input,
+            @NotNull ExecutionContext<@NotNull A> context
+    ) {
+        try {
+            return ParseAttempt.success(parse(input, context));
+        } catch (Throwable t) {
+            return ParseAttempt.failure(t);
+        }
+    }
+
     /**
      * Returns the default suggestions. These will be sent if the
      * containing {@link ParameterNode} does not
@@ -0,0 +1,141 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.parameter;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Supplier;
+
+import static revxrsal.commands.util.Preconditions.notNull;
+
+/**
+ * The result of {@link ParameterType#tryParse(revxrsal.commands.stream.MutableStringStream, revxrsal.commands.node.ExecutionContext)}:
+ * either a parsed value, or a failure.
+ * <p>
+ * The exception of a failure is created lazily, as most failures are
+ * discarded: when several commands could match the input, only the
+ * error of one of them is reported to the user.
+ *
+ * @param <T> The parsed type
+ */
+public final class ParseAttempt<T> {
+
+    private final @Nullable T value;
+    private final @Nullable Supplier<? extends Throwable> error;
+
+    private ParseAttempt(@Nullable T value, @Nullable Supplier<? extends Throwable> error) {
+        this.value = value;
+        this.error = error;
+    }
+
+    /**
+     * Creates a successful attempt that holds the given value
+     *
+     * @param value The parsed value
+     * @param <T>   The parsed type
+     * @return The attempt
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public static <T> @NotNull ParseAttempt<T> success(@Nullable T value) {
+        return new ParseAttempt<>(value, null);
+    }
+
+    /**
+     * Creates a failed attempt. The exception is only created if it
+     * is reported.
+     *
+     * @param error The supplier of the exception
+     * @param <T>   The parsed type
+     * @return The attempt
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public static <T> @NotNull ParseAttempt<T> failure(@NotNull Supplier<? extends Throwable> error) {
+        notNull(error, "error supplier");
+        return new ParseAttempt<>(null, error);
+    }
+
+    /**
+     * Creates a failed attempt from an exception that has already been
+     * thrown
+     *
+     * @param error The exception
+     * @param <T>   The parsed type
+     * @return The attempt
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public static <T> @NotNull ParseAttempt<T> failure(@NotNull Throwable error) {
+        notNull(error, "error");
+        return new ParseAttempt<>(null, () -> error);
+    }
+
+    /**
+     * Tests whether the input was parsed successfully
+     *
+     * @return If the attempt is successful
+     */
+    public boolean successful() {
+        return error == null;
+    }
+
+    /**
+     * Tests whether the input could not be parsed
+     *
+     * @return If the attempt failed
+     */
+    public boolean failed() {
+        return error != null;
+    }
+
+    /**
+     * Returns the parsed value
+     *
+     * @return The parsed value
+     * @throws IllegalStateException if the attempt failed
+     */
+    public T value() {
+        if (error != null)
+            throw new IllegalStateException("Cannot get the value of a failed attempt");
+        return value;
+    }
+
+    /**
+     * Creates the exception that describes the failure. Each call creates
+     * a new exception, unless the attempt was created from an existing one.
+     *
+     * @return The exception
+     * @throws IllegalStateException if the attempt is successful
+     */
+    public @NotNull Throwable error() {
+        if (error == null)
+            throw new IllegalStateException("Cannot get the error of a successful attempt");
+        return error.get();
+    }
+
+    @Override
+    public String toString() {
+        return error == null ? "ParseAttempt(value=" + value + ")" : "ParseAttempt(failed)";
+    }
+}
@@ -32,6 +32,7 @@ import revxrsal.commands.command.CommandActor;
 import revxrsal.commands.exception.EnumNotFoundException;
 import revxrsal.commands.node.ExecutionContext;
 import revxrsal.commands.parameter.ParameterType;
+import revxrsal.commands.parameter.ParseAttempt;
 import revxrsal.commands.parameter.PrioritySpec;
 import revxrsal.commands.stream.MutableStringStream;
 
@@ -82,6 +83,15 @@ public enum EnumParameterTypeFactory implements ParameterType.Factory<CommandAct
             throw new EnumNotFoundException(key);
         }
 
+        @Override
+        public @NotNull ParseAttempt<E> tryParse(@NotNull MutableStringStream input, @NotNull ExecutionContext<CommandActor> context) {
+            String key = input.readUnquotedString();
+            E value = byKeys.get(key.toLowerCase());
+            if (value != null)
+                return ParseAttempt.success(value);
+            return ParseAttempt.failure(() -> new EnumNotFoundException(key));
+        }
+
         @Override public @NotNull SuggestionProvider<CommandActor> defaultSuggestions() {
             return SuggestionProvider.of(suggestions);
         }
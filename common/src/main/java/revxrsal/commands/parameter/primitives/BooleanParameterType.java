@@ -28,9 +28,12 @@ import revxrsal.commands.autocomplete.SuggestionProvider;
 import revxrsal.commands.command.CommandActor;
 import revxrsal.commands.node.ExecutionContext;
 import revxrsal.commands.parameter.ParameterType;
+import revxrsal.commands.parameter.ParseAttempt;
 import revxrsal.commands.parameter.PrioritySpec;
 import revxrsal.commands.stream.MutableStringStream;
 
+import static revxrsal.commands.parameter.primitives.PrimitiveAttempts.attempt;
+
 /**
  * A basic {@link ParameterType} for parsing {@code boolean} types
  */
@@ -45,6 +48,12 @@ public final class BooleanParameterType implements ParameterType<CommandActor, B
         return input.readBoolean();
     }
 
+    @Override
+    public @NotNull ParseAttempt<Boolean> tryParse(@NotNull MutableStringStream input, @NotNull ExecutionContext<CommandActor> context) {
+        int start = input.position();
+        return attempt(input.tryReadBoolean(), input, start, MutableStringStream::readBoolean);
+    }
+
     @Override public @NotNull SuggestionProvider<CommandActor> defaultSuggestions() {
         return SUGGESTIONS;
     }
@@ -27,9 +27,12 @@ import org.jetbrains.annotations.NotNull;
 import revxrsal.commands.command.CommandActor;
 import revxrsal.commands.node.ExecutionContext;
 import revxrsal.commands.parameter.ParameterType;
+import revxrsal.commands.parameter.ParseAttempt;
 import revxrsal.commands.parameter.PrioritySpec;
 import revxrsal.commands.stream.MutableStringStream;
 
+import static revxrsal.commands.parameter.primitives.PrimitiveAttempts.attempt;
+
 /**
  * A basic {@link ParameterType} for parsing {@code byte} types
  */
@@ -48,6 +51,12 @@ public final class ByteParameterType implements ParameterType<CommandActor, Byte
         return input.readByte();
     }
 
+    @Override
+    public @NotNull ParseAttempt<Byte> tryParse(@NotNull MutableStringStream input, @NotNull ExecutionContext<CommandActor> context) {
+        int start = input.position();
+        return attempt(input.tryReadByte(), input, start, MutableStringStream::readByte);
+    }
+
     @Override
     public @NotNull PrioritySpec parsePriority() {
         return PRIORITY;
@@ -27,8 +27,11 @@ import org.jetbrains.annotations.NotNull;
 import revxrsal.commands.command.CommandActor;
 import revxrsal.commands.node.ExecutionContext;
 import revxrsal.commands.parameter.ParameterType;
+import revxrsal.commands.parameter.ParseAttempt;
 import revxrsal.commands.stream.MutableStringStream;
 
+import static revxrsal.commands.parameter.primitives.PrimitiveAttempts.attempt;
+
 /**
  * A basic {@link ParameterType} for parsing {@code double} types
  */
@@ -38,4 +41,10 @@ public final class DoubleParameterType implements ParameterType<CommandActor, Do
     public Double parse(@NotNull MutableStringStream input, @NotNull ExecutionContext<CommandActor> context) {
         return input.readDouble();
     }
+
+    @Override
+    public @NotNull ParseAttempt<Double> tryParse(@NotNull MutableStringStream input, @NotNull ExecutionContext<CommandActor> context) {
+        int start = input.position();
+        return attempt(input.tryReadDouble(), input, start, MutableStringStream::readDouble);
+    }
 }
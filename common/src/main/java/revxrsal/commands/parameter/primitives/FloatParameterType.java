@@ -27,8 +27,11 @@ import org.jetbrains.annotations.NotNull;
 import revxrsal.commands.command.CommandActor;
 import revxrsal.commands.node.ExecutionContext;
 import revxrsal.commands.parameter.ParameterType;
+import revxrsal.commands.parameter.ParseAttempt;
 import revxrsal.commands.stream.MutableStringStream;
 
+import static revxrsal.commands.parameter.primitives.PrimitiveAttempts.attempt;
+
 /**
  * A basic {@link ParameterType} for parsing {@code float} types
  */
@@ -38,4 +41,10 @@ public final class FloatParameterType implements ParameterType<CommandActor, Flo
     public Float parse(@NotNull MutableStringStream input, @NotNull ExecutionContext<CommandActor> context) {
         return input.readFloat();
     }
+
+    @Override
+    public @NotNull ParseAttempt<Float> tryParse(@NotNull MutableStringStream input, @NotNull ExecutionContext<CommandActor> context) {
+        int start = input.position();
+        return attempt(input.tryReadFloat(), input, start, MutableStringStream::readFloat);
+    }
 }
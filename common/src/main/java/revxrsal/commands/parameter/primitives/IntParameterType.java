@@ -27,9 +27,12 @@ import org.jetbrains.annotations.NotNull;
 import revxrsal.commands.command.CommandActor;
 import revxrsal.commands.node.ExecutionContext;
 import revxrsal.commands.parameter.ParameterType;
+import revxrsal.commands.parameter.ParseAttempt;
 import revxrsal.commands.parameter.PrioritySpec;
 import revxrsal.commands.stream.MutableStringStream;
 
+import static revxrsal.commands.parameter.primitives.PrimitiveAttempts.attempt;
+
 /**
  * A basic {@link ParameterType} for parsing {@code int} types
  */
@@ -46,6 +49,12 @@ public final class IntParameterType implements ParameterType<CommandActor, Integ
         return input.readInt();
     }
 
+    @Override
+    public @NotNull ParseAttempt<Integer> tryParse(@NotNull MutableStringStream input, @NotNull ExecutionContext<CommandActor> context) {
+        int start = input.position();
+        return attempt(input.tryReadInt(), input, start, MutableStringStream::readInt);
+    }
+
     @Override
     public @NotNull PrioritySpec parsePriority() {
         return PRIORITY;
@@ -27,9 +27,12 @@ import org.jetbrains.annotations.NotNull;
 import revxrsal.commands.command.CommandActor;
 import revxrsal.commands.node.ExecutionContext;
 import revxrsal.commands.parameter.ParameterType;
+import revxrsal.commands.parameter.ParseAttempt;
 import revxrsal.commands.parameter.PrioritySpec;
 import revxrsal.commands.stream.MutableStringStream;
 
+import static revxrsal.commands.parameter.primitives.PrimitiveAttempts.attempt;
+
 /**
  * A basic {@link ParameterType} for parsing {@code long} types
  */
@@ -45,6 +48,12 @@ public final class LongParameterType implements ParameterType<CommandActor, Long
         return input.readLong();
     }
 
+    @Override
+    public @NotNull ParseAttempt<Long> tryParse(@NotNull MutableStringStream input, @NotNull ExecutionContext<CommandActor> context) {
+        int start = input.position();
+        return attempt(input.tryReadLong(), input, start, MutableStringStream::readLong);
+    }
+
     @Override public @NotNull PrioritySpec parsePriority() {
         return PRIORITY;
     }
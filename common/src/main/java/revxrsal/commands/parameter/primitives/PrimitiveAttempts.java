@@ -0,0 +1,75 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.parameter.primitives;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import revxrsal.commands.parameter.ParseAttempt;
+import revxrsal.commands.stream.MutableStringStream;
+
+import java.util.function.Function;
+
+import static revxrsal.commands.util.Preconditions.cannotInstantiate;
+
+/**
+ * Creates the {@link ParseAttempt}s of the primitive parameter types
+ */
+final class PrimitiveAttempts {
+
+    private PrimitiveAttempts() {
+        cannotInstantiate(PrimitiveAttempts.class);
+    }
+
+    /**
+     * Returns a successful attempt if the value is not null. Otherwise, returns
+     * a failure whose exception is created by replaying the throwing reader on
+     * the same input, so that it is identical to what {@code parse()} throws.
+     *
+     * @param value  The value returned by the non-throwing reader
+     * @param input  The input, positioned after the token
+     * @param start  The position of the token
+     * @param reader The throwing reader
+     * @param <T>    The parsed type
+     * @return The attempt
+     */
+    static <T> @NotNull ParseAttempt<T> attempt(
+            @Nullable T value,
+            @NotNull MutableStringStream input,
+            int start,
+            @NotNull Function<MutableStringStream, T> reader
+    ) {
+        if (value != null)
+            return ParseAttempt.success(value);
+        MutableStringStream replay = input.toMutableCopy();
+        replay.setPosition(start);
+        return ParseAttempt.failure(() -> {
+            try {
+                reader.apply(replay.toMutableCopy());
+            } catch (RuntimeException e) {
+                return e;
+            }
+            return new IllegalStateException("Expected the input to be invalid: " + replay.peekRemaining());
+        });
+    }
+}
@@ -27,9 +27,12 @@ import org.jetbrains.annotations.NotNull;
 import revxrsal.commands.command.CommandActor;
 import revxrsal.commands.node.ExecutionContext;
 import revxrsal.commands.parameter.ParameterType;
+import revxrsal.commands.parameter.ParseAttempt;
 import revxrsal.commands.parameter.PrioritySpec;
 import revxrsal.commands.stream.MutableStringStream;
 
+import static revxrsal.commands.parameter.primitives.PrimitiveAttempts.attempt;
+
 /**
  * A basic {@link ParameterType} for parsing {@code short} types
  */
@@ -47,6 +50,12 @@ public final class ShortParameterType implements ParameterType<CommandActor, Sho
         return input.readShort();
     }
 
+    @Override
+    public @NotNull ParseAttempt<Short> tryParse(@NotNull MutableStringStream input, @NotNull ExecutionContext<CommandActor> context) {
+        int start = input.position();
+        return attempt(input.tryReadShort(), input, start, MutableStringStream::readShort);
+    }
+
     @Override
     public @NotNull PrioritySpec parsePriority() {
         return PRIORITY;
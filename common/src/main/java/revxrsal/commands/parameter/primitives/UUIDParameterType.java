@@ -24,10 +24,12 @@
 package revxrsal.commands.parameter.primitives;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import revxrsal.commands.command.CommandActor;
 import revxrsal.commands.exception.InvalidUUIDException;
 import revxrsal.commands.node.ExecutionContext;
 import revxrsal.commands.parameter.ParameterType;
+import revxrsal.commands.parameter.ParseAttempt;
 import revxrsal.commands.stream.MutableStringStream;
 
 import java.util.UUID;
@@ -46,4 +48,63 @@ public final class UUIDParameterType implements ParameterType<CommandActor, UUID
             throw new InvalidUUIDException(value);
         }
     }
+
+    @Override
+    public @NotNull ParseAttempt<UUID> tryParse(@NotNull MutableStringStream input, @NotNull ExecutionContext<CommandActor> context) {
+        String value = input.readUnquotedString();
+        UUID uuid = parseCanonical(value);
+        if (uuid != null)
+            return ParseAttempt.success(uuid);
+        // every UUID that UUID.fromString() accepts has 5 dash-separated components
+        if (countDashes(value) == 4) {
+            try {
+                return ParseAttempt.success(UUID.fromString(value));
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+        return ParseAttempt.failure(() -> new InvalidUUIDException(value));
+    }
+
+    /**
+     * Parses a UUID in its canonical 8-4-4-4-12 form, or returns {@code null}
+     * if the value is not in that form.
+     */
+    private static @Nullable UUID parseCanonical(@NotNull String value) {
+        if (value.length() != 36
+                || value.charAt(8) != '-' || value.charAt(13) != '-'
+                || value.charAt(18) != '-' || value.charAt(23) != '-')
+            return null;
+        long mostSigBits = 0, leastSigBits = 0;
+        for (int i = 0; i < 36; i++) {
+            if (i == 8 || i == 13 || i == 18 || i == 23)
+                continue;
+            int digit = hexDigit(value.charAt(i));
+            if (digit < 0)
+                return null;
+            if (i < 19)
+                mostSigBits = (mostSigBits << 4) | digit;
+            else
+                leastSigBits = (leastSigBits << 4) | digit;
+        }
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private static int hexDigit(char c) {
+        if (c >= '0' && c <= '9')
+            return c - '0';
+        if (c >= 'a' && c <= 'f')
+            return c - 'a' + 10;
+        if (c >= 'A' && c <= 'F')
+            return c - 'A' + 10;
+        return -1;
+    }
+
+    private static int countDashes(@NotNull String value) {
+        int count = 0;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == '-')
+                count++;
+        }
+        return count;
+    }
 }
@@ -0,0 +1,115 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.reflect;
+
+import lombok.SneakyThrows;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * A {@link MethodCallerFactory} that uses the method handles API to generate
+ * method callers, by adapting the method handle to a fixed
+ * {@code (Object, Object[])Object} type when the caller is created.
+ * <p>
+ * Calls are then made with {@link MethodHandle#invokeExact(Object...)}, which
+ * does not need to box the arguments into a new list or look up a type
+ * adaptation on every call, unlike {@link MethodHandle#invokeWithArguments(Object...)}.
+ */
+final class ExactMethodHandlesCallerFactory implements MethodCallerFactory {
+
+    public static final ExactMethodHandlesCallerFactory INSTANCE = new ExactMethodHandlesCallerFactory();
+
+    @Override public @NotNull MethodCaller createFor(@NotNull Method method) throws Throwable {
+        if (!method.isAccessible()) method.setAccessible(true);
+        MethodHandle handle = MethodHandles.lookup().unreflect(method).asFixedArity();
+        int parameters = method.getParameterCount();
+        boolean isStatic = Modifier.isStatic(method.getModifiers());
+        MethodHandle spreader;
+        if (isStatic) {
+            // (Object[])Object -> (Object, Object[])Object, ignoring the instance
+            spreader = handle.asType(MethodType.genericMethodType(parameters))
+                    .asSpreader(Object[].class, parameters);
+            spreader = MethodHandles.dropArguments(spreader, 0, Object.class);
+        } else {
+            spreader = handle.asType(MethodType.genericMethodType(parameters + 1))
+                    .asSpreader(Object[].class, parameters);
+        }
+        return new ExactMethodCaller(spreader, isStatic, method.toString());
+    }
+
+    @Override public String toString() {
+        return "ExactMethodHandlesCallerFactory";
+    }
+
+    private static final class ExactMethodCaller implements MethodCaller {
+
+        private final MethodHandle handle;
+        private final boolean isStatic;
+        private final String methodString;
+
+        private ExactMethodCaller(MethodHandle handle, boolean isStatic, String methodString) {
+            this.handle = handle;
+            this.isStatic = isStatic;
+            this.methodString = methodString;
+        }
+
+        @SneakyThrows @Override public Object call(@Nullable Object instance, Object... arguments) {
+            return (Object) handle.invokeExact(instance, arguments);
+        }
+
+        @Override public MethodCaller.BoundMethodCaller bindTo(@Nullable Object instance) {
+            // (Object, Object[])Object -> (Object[])Object
+            return new BoundExactMethodCaller(handle.bindTo(isStatic ? null : instance), methodString);
+        }
+
+        @Override public String toString() {
+            return "ExactMethodHandlesCaller(" + methodString + ")";
+        }
+    }
+
+    private static final class BoundExactMethodCaller implements MethodCaller.BoundMethodCaller {
+
+        private final MethodHandle handle;
+        private final String methodString;
+
+        private BoundExactMethodCaller(MethodHandle handle, String methodString) {
+            this.handle = handle;
+            this.methodString = methodString;
+        }
+
+        @SneakyThrows @Override public Object call(@NotNull Object... arguments) {
+            return (Object) handle.invokeExact(arguments);
+        }
+
+        @Override public String toString() {
+            return "BoundExactMethodHandlesCaller(" + methodString + ")";
+        }
+    }
+}
@@ -43,6 +43,18 @@ public interface MethodCallerFactory {
         return MethodHandlesCallerFactory.INSTANCE;
     }
 
+    /**
+     * Returns a {@link MethodCallerFactory} that uses the method handles API
+     * to create method callers. Method handles are adapted to a fixed type
+     * ahead of time, so that every call is an exact invocation that does not
+     * allocate intermediate lists.
+     *
+     * @return The exact method handles caller factory.
+     */
+    static @NotNull MethodCallerFactory exactMethodHandles() {
+        return ExactMethodHandlesCallerFactory.INSTANCE;
+    }
+
     /**
      * Returns a {@link MethodCallerFactory} that allows invocation
      * of Kotlin functions with their default values.
@@ -55,7 +67,7 @@ public interface MethodCallerFactory {
 
     /**
      * Returns the default {@link MethodCallerFactory}, which uses
-     * the method handles API to create method callers, and
+     * {@link #exactMethodHandles()} to create method callers, and
      * {@link KotlinFunction} to call Kotlin methods.
      *
      * @return The default method caller factory.
@@ -143,6 +143,16 @@ class BaseStringStream implements StringStream {
     }
 
     public @NotNull String readUntil(char delimiter) {
+        int end = source.indexOf(delimiter, pos);
+        if (end != -1) {
+            int escape = source.indexOf(ESCAPE, pos);
+            if (escape == -1 || escape > end) {
+                // nothing is escaped: the content is a plain substring
+                String result = source.substring(pos, end);
+                pos = end + 1;
+                return result;
+            }
+        }
         StringBuilder result = new StringBuilder();
         boolean escaped = false;
         while (hasRemaining()) {
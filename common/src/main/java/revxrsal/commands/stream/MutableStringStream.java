@@ -25,7 +25,10 @@ package revxrsal.commands.stream;
 
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
+import revxrsal.commands.exception.InputParseException;
+import revxrsal.commands.exception.InvalidValueException;
 
 /**
  * An interface that aids in parsing a stream of characters.
@@ -178,6 +181,105 @@ public interface MutableStringStream extends StringStream {
      */
     boolean readBoolean();
 
+    /**
+     * Parses the next token as a {@code float}, like {@link #readFloat()}, but returns
+     * {@code null} instead of throwing if it is not a valid {@code float}. The token
+     * is consumed either way.
+     *
+     * @return The next token, as a {@code float}, or {@code null}.
+     */
+    default @Nullable Float tryReadFloat() {
+        try {
+            return readFloat();
+        } catch (InvalidValueException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parses the next token as a {@code double}, or returns {@code null} if it
+     * is not a valid {@code double}. See {@link #tryReadFloat()}.
+     *
+     * @return The next token, as a {@code double}, or {@code null}.
+     */
+    default @Nullable Double tryReadDouble() {
+        try {
+            return readDouble();
+        } catch (InvalidValueException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parses the next token as an {@code int}, or returns {@code null} if it
+     * is not a valid {@code int}. See {@link #tryReadFloat()}.
+     *
+     * @return The next token, as an {@code int}, or {@code null}.
+     */
+    default @Nullable Integer tryReadInt() {
+        try {
+            return readInt();
+        } catch (InvalidValueException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parses the next token as a {@code long}, or returns {@code null} if it
+     * is not a valid {@code long}. See {@link #tryReadFloat()}.
+     *
+     * @return The next token, as a {@code long}, or {@code null}.
+     */
+    default @Nullable Long tryReadLong() {
+        try {
+            return readLong();
+        } catch (InvalidValueException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parses the next token as a {@code short}, or returns {@code null} if it
+     * is not a valid {@code short}. See {@link #tryReadFloat()}.
+     *
+     * @return The next token, as a {@code short}, or {@code null}.
+     */
+    default @Nullable Short tryReadShort() {
+        try {
+            return readShort();
+        } catch (InvalidValueException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parses the next token as a {@code byte}, or returns {@code null} if it
+     * is not a valid {@code byte}. See {@link #tryReadFloat()}.
+     *
+     * @return The next token, as a {@code byte}, or {@code null}.
+     */
+    default @Nullable Byte tryReadByte() {
+        try {
+            return readByte();
+        } catch (InvalidValueException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parses the next token as a {@code boolean}, or returns {@code null} if it
+     * is not a valid {@code boolean}. See {@link #tryReadFloat()}.
+     *
+     * @return The next token, as a {@code boolean}, or {@code null}.
+     */
+    default @Nullable Boolean tryReadBoolean() {
+        try {
+            return readBoolean();
+        } catch (InvalidValueException | InputParseException e) {
+            return null;
+        }
+    }
+
     /**
      * Sets the current position of the cursor
      *
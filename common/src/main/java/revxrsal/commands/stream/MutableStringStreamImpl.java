@@ -25,6 +25,7 @@ package revxrsal.commands.stream;
 
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import revxrsal.commands.exception.InputParseException;
 import revxrsal.commands.exception.InvalidBooleanException;
 import revxrsal.commands.exception.InvalidDecimalException;
@@ -98,30 +99,6 @@ public final class MutableStringStreamImpl extends BaseStringStream implements M
         source += str;
     }
 
-    public @NotNull String readUntil(char delimiter) {
-        StringBuilder result = new StringBuilder();
-        boolean escaped = false;
-        while (hasRemaining()) {
-            char c = read();
-            if (escaped) {
-                if (c == delimiter || c == ESCAPE) {
-                    result.append(c);
-                    escaped = false;
-                } else {
-                    moveBackward(1);
-                    throw new InputParseException(InputParseException.Cause.INVALID_ESCAPE_CHARACTER);
-                }
-            } else if (c == ESCAPE) {
-                escaped = true;
-            } else if (c == delimiter) {
-                return result.toString();
-            } else {
-                result.append(c);
-            }
-        }
-        throw new InputParseException(InputParseException.Cause.UNCLOSED_QUOTE);
-    }
-
     public @NotNull String readWhile(CharPredicate predicate) {
         int start = pos;
         while (hasRemaining() && predicate.test(peek())) {
@@ -131,65 +108,100 @@ public final class MutableStringStreamImpl extends BaseStringStream implements M
     }
 
     public float readFloat() {
-        String value = readUnquotedString();
-        try {
-            float v = Float.parseFloat(value);
-            if (Float.isFinite(v)) return v;
-            throw new InvalidDecimalException(value);
-        } catch (NumberFormatException e) {
-            throw new InvalidDecimalException(value);
-        }
+        int start = pos;
+        float v = parseFloat(start, skipToken());
+        if (Float.isNaN(v))
+            throw new InvalidDecimalException(source.substring(start, pos));
+        return v;
     }
 
     public double readDouble() {
-        String value = readUnquotedString();
-        try {
-            double v = Double.parseDouble(value);
-            if (Double.isFinite(v)) return v;
-            throw new InvalidDecimalException(value);
-        } catch (NumberFormatException e) {
-            throw new InvalidDecimalException(value);
-        }
+        int start = pos;
+        double v = parseDouble(start, skipToken());
+        if (Double.isNaN(v))
+            throw new InvalidDecimalException(source.substring(start, pos));
+        return v;
     }
 
     public int readInt() {
-        String value = readUnquotedString();
-        try {
-            return Integer.parseInt(value);
-        } catch (NumberFormatException e) {
-            throw new InvalidIntegerException(value);
-        }
+        return (int) readInteger(Integer.MIN_VALUE, Integer.MAX_VALUE);
     }
 
     public long readLong() {
-        String value = readUnquotedString();
-        try {
-            return Long.parseLong(value);
-        } catch (NumberFormatException e) {
-            throw new InvalidIntegerException(value);
-        }
+        return readInteger(Long.MIN_VALUE, Long.MAX_VALUE);
     }
 
     public short readShort() {
-        String value = readUnquotedString();
-        try {
-            return Short.parseShort(value);
-        } catch (NumberFormatException e) {
-            throw new InvalidIntegerException(value);
-        }
+        return (short) readInteger(Short.MIN_VALUE, Short.MAX_VALUE);
     }
 
     public byte readByte() {
-        String value = readUnquotedString();
-        try {
-            return Byte.parseByte(value);
-        } catch (NumberFormatException e) {
-            throw new InvalidIntegerException(value);
-        }
+        return (byte) readInteger(Byte.MIN_VALUE, Byte.MAX_VALUE);
     }
 
     public boolean readBoolean() {
         String value = readString();
+        Boolean result = toBoolean(value);
+        if (result == null)
+            throw new InvalidBooleanException(value);
+        return result;
+    }
+
+    @Override
+    public @Nullable Float tryReadFloat() {
+        float v = parseFloat(pos, skipToken());
+        return Float.isNaN(v) ? null : v;
+    }
+
+    @Override
+    public @Nullable Double tryReadDouble() {
+        double v = parseDouble(pos, skipToken());
+        return Double.isNaN(v) ? null : v;
+    }
+
+    @Override
+    public @Nullable Integer tryReadInt() {
+        int start = pos;
+        int end = skipToken();
+        return isInteger(start, end, Integer.MIN_VALUE, Integer.MAX_VALUE) ? (int) parseInteger(start, end) : null;
+    }
+
+    @Override
+    public @Nullable Long tryReadLong() {
+        int start = pos;
+        int end = skipToken();
+        return isInteger(start, end, Long.MIN_VALUE, Long.MAX_VALUE) ? parseInteger(start, end) : null;
+    }
+
+    @Override
+    public @Nullable Short tryReadShort() {
+        int start = pos;
+        int end = skipToken();
+        return isInteger(start, end, Short.MIN_VALUE, Short.MAX_VALUE) ? (short) parseInteger(start, end) : null;
+    }
+
+    @Override
+    public @Nullable Byte tryReadByte() {
+        int start = pos;
+        int end = skipToken();
+        return isInteger(start, end, Byte.MIN_VALUE, Byte.MAX_VALUE) ? (byte) parseInteger(start, end) : null;
+    }
+
+    @Override
+    public @Nullable Boolean tryReadBoolean() {
+        if (hasRemaining() && peek() == DOUBLE_QUOTE) {
+            pos += 1;
+            try {
+                return toBoolean(readUntil(DOUBLE_QUOTE));
+            } catch (InputParseException e) {
+                return null;
+            }
+        }
+        int start = pos;
+        return toBoolean(source.substring(start, skipToken()));
+    }
+
+    private static @Nullable Boolean toBoolean(@NotNull String value) {
         switch (value.toLowerCase(Locale.ENGLISH)) {
             case "true":
             case "yes":
@@ -199,10 +211,220 @@ public final class MutableStringStreamImpl extends BaseStringStream implements M
             case "nope":
                 return false;
             default:
-                throw new InvalidBooleanException(value);
+                return null;
         }
     }
 
+    /**
+     * Moves the cursor to the end of the current unquoted string, and returns
+     * its position.
+     *
+     * @return The end of the token, exclusive
+     */
+    private int skipToken() {
+        int length = source.length();
+        while (pos < length && !Character.isWhitespace(source.charAt(pos)))
+            pos++;
+        return pos;
+    }
+
+    /**
+     * Reads a decimal integer within the given range directly from the source
+     *
+     * @param min The minimum value, inclusive
+     * @param max The maximum value, inclusive
+     * @return The integer
+     */
+    private long readInteger(long min, long max) {
+        int start = pos;
+        int end = skipToken();
+        if (!isInteger(start, end, min, max))
+            throw new InvalidIntegerException(source.substring(start, end));
+        return parseInteger(start, end);
+    }
+
+    /**
+     * Tests whether the given range of the source is a decimal integer within
+     * the given range, accepting the same input as {@link Long#parseLong(String)}.
+     */
+    private boolean isInteger(int start, int end, long min, long max) {
+        int i = start;
+        // accumulate negatively, as the negative range is larger
+        long limit = -max;
+        if (i < end) {
+            char first = source.charAt(i);
+            if (first == '-') {
+                limit = min;
+                i++;
+            } else if (first == '+') {
+                i++;
+            }
+        }
+        if (i == end)
+            return false;
+        long multiplyLimit = limit / 10;
+        long result = 0;
+        while (i < end) {
+            int digit = Character.digit(source.charAt(i++), 10);
+            if (digit < 0 || result < multiplyLimit)
+                return false;
+            result *= 10;
+            if (result < limit + digit)
+                return false;
+            result -= digit;
+        }
+        return true;
+    }
+
+    /**
+     * Parses the given range of the source, which must have been checked
+     * with {@link #isInteger(int, int, long, long)}
+     */
+    private long parseInteger(int start, int end) {
+        int i = start;
+        boolean negative = source.charAt(i) == '-';
+        if (negative || source.charAt(i) == '+')
+            i++;
+        long result = 0;
+        while (i < end)
+            result = result * 10 - Character.digit(source.charAt(i++), 10);
+        return negative ? result : -result;
+    }
+
+    /**
+     * Parses the given range of the source as a finite {@code double}, or returns
+     * {@link Double#NaN} if it is not one.
+     */
+    private double parseDouble(int start, int end) {
+        double v = parseSimpleDouble(start, end);
+        if (!Double.isNaN(v))
+            return v;
+        if (!containsDigit(start, end))
+            return Double.NaN;
+        try {
+            v = Double.parseDouble(source.substring(start, end));
+            return Double.isFinite(v) ? v : Double.NaN;
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * Parses the given range of the source as a finite {@code float}, or returns
+     * {@link Float#NaN} if it is not one.
+     */
+    private float parseFloat(int start, int end) {
+        float v = parseSimpleFloat(start, end);
+        if (!Float.isNaN(v))
+            return v;
+        if (!containsDigit(start, end))
+            return Float.NaN;
+        try {
+            v = Float.parseFloat(source.substring(start, end));
+            return Float.isFinite(v) ? v : Float.NaN;
+        } catch (NumberFormatException e) {
+            return Float.NaN;
+        }
+    }
+
+    /**
+     * Tests whether the given range of the source contains a digit. Every finite
+     * number does, so the JDK parsers (and their exceptions) can be skipped
+     * for other input.
+     */
+    private boolean containsDigit(int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = source.charAt(i);
+            if (c >= '0' && c <= '9')
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Powers of ten that are exactly representable as doubles
+     */
+    private static final double[] DOUBLE_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * Powers of ten that are exactly representable as floats
+     */
+    private static final float[] FLOAT_POWERS_OF_TEN = {
+            1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+    };
+
+    /**
+     * Parses a plain decimal number, such as {@code -12.5}, directly from the source.
+     * The significand and the power of ten are both exact, so a single division is
+     * correctly rounded and gives the same result as {@link Double#parseDouble(String)}.
+     * <p>
+     * Returns {@link Double#NaN} for anything else (exponents, too many digits,
+     * invalid input), which should be parsed with {@link Double#parseDouble(String)}.
+     */
+    private double parseSimpleDouble(int start, int end) {
+        long significand = scanSignificand(start, end, 1L << 53);
+        if (significand < 0)
+            return Double.NaN;
+        int fraction = fractionDigits(start, end);
+        if (fraction >= DOUBLE_POWERS_OF_TEN.length)
+            return Double.NaN;
+        double value = significand / DOUBLE_POWERS_OF_TEN[fraction];
+        return source.charAt(start) == '-' ? -value : value;
+    }
+
+    /**
+     * Parses a plain decimal number directly from the source, with the same
+     * guarantees as {@link #parseSimpleDouble(int, int)}.
+     */
+    private float parseSimpleFloat(int start, int end) {
+        long significand = scanSignificand(start, end, 1L << 24);
+        if (significand < 0)
+            return Float.NaN;
+        int fraction = fractionDigits(start, end);
+        if (fraction >= FLOAT_POWERS_OF_TEN.length)
+            return Float.NaN;
+        float value = significand / FLOAT_POWERS_OF_TEN[fraction];
+        return source.charAt(start) == '-' ? -value : value;
+    }
+
+    /**
+     * Returns the digits of {@code [sign]digits[.digits]} as an integer, ignoring
+     * the decimal point, or -1 if the input does not have this shape or the
+     * significand exceeds the given bound.
+     */
+    private long scanSignificand(int start, int end, long bound) {
+        int i = start;
+        if (i < end && (source.charAt(i) == '-' || source.charAt(i) == '+'))
+            i++;
+        long significand = 0;
+        boolean digits = false, point = false;
+        for (; i < end; i++) {
+            char c = source.charAt(i);
+            if (c >= '0' && c <= '9') {
+                significand = significand * 10 + (c - '0');
+                if (significand > bound)
+                    return -1;
+                digits = true;
+            } else if (c == '.' && !point) {
+                point = true;
+            } else {
+                return -1;
+            }
+        }
+        return digits ? significand : -1;
+    }
+
+    /**
+     * Returns the number of digits after the decimal point, if any
+     */
+    private int fractionDigits(int start, int end) {
+        int point = source.indexOf('.', start);
+        return point == -1 || point >= end ? 0 : end - point - 1;
+    }
+
     public void setPosition(int pos) {
         this.pos = pos;
     }
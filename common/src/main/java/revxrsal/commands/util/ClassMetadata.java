@@ -0,0 +1,87 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.util;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import revxrsal.commands.exception.ThrowableFromCommand;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+/**
+ * Reflective facts about a class that are looked up on hot paths, such as
+ * annotation lookups and exception handling. They are computed once per
+ * class and cached in a {@link ClassValue}, which does not prevent classes
+ * from being unloaded.
+ */
+@ApiStatus.Internal
+public final class ClassMetadata {
+
+    private static final ClassValue<ClassMetadata> METADATA = new ClassValue<ClassMetadata>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            return new ClassMetadata(type);
+        }
+    };
+
+    private final boolean runtimeRetention;
+    private final boolean throwableFromCommand;
+
+    private ClassMetadata(@NotNull Class<?> type) {
+        Retention retention = type.getAnnotation(Retention.class);
+        this.runtimeRetention = retention != null && retention.value() == RetentionPolicy.RUNTIME;
+        this.throwableFromCommand = type.isAnnotationPresent(ThrowableFromCommand.class);
+    }
+
+    /**
+     * Returns the metadata of the given class
+     *
+     * @param type The class
+     * @return The metadata
+     */
+    public static @NotNull ClassMetadata of(@NotNull Class<?> type) {
+        return METADATA.get(type);
+    }
+
+    /**
+     * Tests whether the class is annotated with {@code @Retention(RetentionPolicy.RUNTIME)}.
+     * Only annotations with this retention can be seen at runtime.
+     *
+     * @return If the class has runtime retention
+     */
+    public boolean hasRuntimeRetention() {
+        return runtimeRetention;
+    }
+
+    /**
+     * Tests whether the class is annotated (directly or through a superclass)
+     * with {@link ThrowableFromCommand}
+     *
+     * @return If the class is a throwable from command
+     */
+    public boolean isThrowableFromCommand() {
+        return throwableFromCommand;
+    }
+}
@@ -165,6 +165,28 @@ public final class Collections {
         return list;
     }
 
+    /**
+     * Inserts the given element into an already-sorted list, keeping
+     * the list sorted. Elements that compare equal to the new element
+     * stay before it, similar to adding the element and then invoking
+     * a stable sort on the list.
+     *
+     * @param list    The sorted list
+     * @param element Element to insert
+     * @param <T>     The element type
+     */
+    public static <T extends Comparable<? super T>> void insertSorted(@NotNull List<T> list, @NotNull T element) {
+        int low = 0, high = list.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (list.get(mid).compareTo(element) <= 0)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        list.add(low, element);
+    }
+
     public static <E> @NotNull @UnmodifiableView Iterator<E> unmodifiableIterator(@NotNull Iterator<E> iterator) {
         return new UnmodifiableIterator<>(iterator);
     }
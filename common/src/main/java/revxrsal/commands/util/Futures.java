@@ -0,0 +1,114 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.util;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static revxrsal.commands.util.Preconditions.cannotInstantiate;
+import static revxrsal.commands.util.Preconditions.notNull;
+
+/**
+ * Utilities for {@link CompletableFuture}s that are not available in Java 8
+ */
+@ApiStatus.Internal
+public final class Futures {
+
+    /**
+     * A single daemon thread that completes timed-out futures and runs other
+     * short, non-blocking tasks.
+     * <p>
+     * Note that completing a future runs its non-async dependent stages on the
+     * completing thread. Dependents of a timed-out future, such as callbacks
+     * chained on {@link #withTimeout(CompletableFuture, Duration, Object)}, may
+     * therefore run on this thread, and must not block.
+     */
+    private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Lamp Timeout Timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Futures() {
+        cannotInstantiate(Futures.class);
+    }
+
+    /**
+     * Returns a future that completes with the result of the given future, or with
+     * the fallback value if the future fails or does not complete within the given
+     * timeout.
+     * <p>
+     * The original future is not cancelled on timeout.
+     * <p>
+     * If the timeout elapses first, the returned future is completed on Lamp's
+     * timer thread, and so are its non-async dependent stages. Stages that may
+     * block should use the {@code *Async} variants of {@link CompletableFuture}.
+     *
+     * @param future   The future to wait for
+     * @param timeout  The maximum time to wait
+     * @param fallback The value to use if the future fails or times out
+     * @param <T>      The future type
+     * @return The new future
+     */
+    public static <T> @NotNull CompletableFuture<T> withTimeout(
+            @NotNull CompletableFuture<T> future,
+            @NotNull Duration timeout,
+            T fallback
+    ) {
+        notNull(future, "future");
+        notNull(timeout, "timeout");
+        if (future.isDone())
+            return future.handle((value, error) -> error == null ? value : fallback);
+        CompletableFuture<T> result = new CompletableFuture<>();
+        ScheduledFuture<?> timer = schedule(() -> result.complete(fallback), timeout);
+        future.whenComplete((value, error) -> {
+            timer.cancel(false);
+            result.complete(error == null ? value : fallback);
+        });
+        return result;
+    }
+
+    /**
+     * Runs the given task after the given delay on Lamp's timer thread.
+     * <p>
+     * The task must be short and must not block, as it delays every other
+     * scheduled task.
+     *
+     * @param task  The task to run
+     * @param delay The delay after which the task runs
+     * @return The scheduled task, which can be cancelled
+     */
+    public static @NotNull ScheduledFuture<?> schedule(@NotNull Runnable task, @NotNull Duration delay) {
+        notNull(task, "task");
+        notNull(delay, "delay");
+        return TIMER.schedule(task, delay.toNanos(), TimeUnit.NANOSECONDS);
+    }
+}
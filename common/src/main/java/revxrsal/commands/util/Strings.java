@@ -86,6 +86,18 @@ public final class Strings {
         return command.substring(colon + 1);
     }
 
+    /**
+     * Tests whether the given string starts with the given prefix, ignoring
+     * case. Unlike lower-casing both strings, this does not allocate.
+     *
+     * @param string The string to test
+     * @param prefix The prefix
+     * @return if the string starts with the prefix
+     */
+    public static boolean startsWithIgnoreCase(@NotNull String string, @NotNull String prefix) {
+        return string.regionMatches(true, 0, prefix, 0, prefix.length());
+    }
+
     public static @NotNull String removeRanges(
             @NotNull String input,
             @NotNull List<StringRange> ranges
@@ -0,0 +1,81 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands;
+
+import org.jetbrains.annotations.NotNull;
+import revxrsal.commands.command.CommandActor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A {@link CommandActor} that records the messages sent to it
+ */
+public final class TestActor implements CommandActor {
+
+    private final List<String> messages = new ArrayList<>();
+    private final List<String> errors = new ArrayList<>();
+    private Lamp<TestActor> lamp;
+
+    public static @NotNull Lamp<TestActor> lamp(@NotNull Object... commands) {
+        Lamp<TestActor> lamp = Lamp.<TestActor>builder().build();
+        lamp.register(commands);
+        return lamp;
+    }
+
+    public static @NotNull TestActor of(@NotNull Lamp<TestActor> lamp) {
+        TestActor actor = new TestActor();
+        actor.lamp = lamp;
+        return actor;
+    }
+
+    public @NotNull List<String> messages() {
+        return messages;
+    }
+
+    public @NotNull List<String> errors() {
+        return errors;
+    }
+
+    @Override public @NotNull String name() {
+        return "tester";
+    }
+
+    @Override public @NotNull UUID uniqueId() {
+        return new UUID(0, 0);
+    }
+
+    @Override public void sendRawMessage(@NotNull String message) {
+        messages.add(message);
+    }
+
+    @Override public void sendRawError(@NotNull String message) {
+        errors.add(message);
+    }
+
+    @Override public Lamp<TestActor> lamp() {
+        return lamp;
+    }
+}
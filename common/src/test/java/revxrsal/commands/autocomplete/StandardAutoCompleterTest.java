@@ -0,0 +1,94 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.autocomplete;
+
+import org.junit.jupiter.api.Test;
+import revxrsal.commands.Lamp;
+import revxrsal.commands.TestActor;
+import revxrsal.commands.annotation.Command;
+import revxrsal.commands.annotation.Subcommand;
+import revxrsal.commands.annotation.Suggest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StandardAutoCompleterTest {
+
+    @Command("eco")
+    public static final class EcoCommands {
+
+        @Subcommand("give")
+        public void give(TestActor actor, @Suggest({"alice", "bob"}) String target) {
+        }
+
+        @Subcommand("take")
+        public void take(TestActor actor, @Suggest({"alice", "bob"}) String target) {
+        }
+    }
+
+    @Command("eco")
+    public static final class ResetCommand {
+
+        @Subcommand("reset")
+        public void reset(TestActor actor) {
+        }
+    }
+
+    @Test
+    void completesLiteralsAndParameters() {
+        Lamp<TestActor> lamp = TestActor.lamp(new EcoCommands());
+        TestActor actor = TestActor.of(lamp);
+        AutoCompleter<TestActor> completer = lamp.autoCompleter();
+
+        assertEquals(asList("give", "take"), completer.complete(actor, "eco "));
+        assertEquals(singletonList("give"), completer.complete(actor, "eco g"));
+        assertEquals(singletonList("bob"), completer.complete(actor, "eco give b"));
+        assertEquals(singletonList("alice"), completer.complete(actor, "eco give a"));
+        assertEquals(singletonList("give"), completer.completeAsync(actor, "eco g").join());
+        assertEquals(singletonList("bob"), completer.completeAsync(actor, "eco give b").join());
+    }
+
+    @Test
+    void cachedLiteralCompletionsFollowTheRegistry() {
+        Lamp<TestActor> lamp = TestActor.lamp(new EcoCommands());
+        TestActor actor = TestActor.of(lamp);
+        AutoCompleter<TestActor> completer = lamp.autoCompleter();
+
+        assertEquals(asList("give", "take"), completer.complete(actor, "eco "));
+        lamp.register(new ResetCommand());
+        assertEquals(asList("give", "reset", "take"), sorted(completer.complete(actor, "eco ")));
+        lamp.unregisterIf(command -> command.path().startsWith("eco give"));
+        assertEquals(asList("reset", "take"), sorted(completer.complete(actor, "eco ")));
+    }
+
+    private static List<String> sorted(List<String> completions) {
+        List<String> sorted = new ArrayList<>(completions);
+        sorted.sort(null);
+        return sorted;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.exception;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class InvalidValueExceptionTest {
+
+    static final class InvalidColorException extends InvalidValueException {
+
+        InvalidColorException(String input) {
+            super(input);
+        }
+    }
+
+    static final class CustomIntegerException extends InvalidIntegerException {
+
+        CustomIntegerException(String input) {
+            super(input);
+        }
+    }
+
+    static final class CustomMissingArgumentException extends MissingArgumentException {
+
+        CustomMissingArgumentException() {
+            super(null, null);
+        }
+    }
+
+    @Test
+    void builtInExceptionsSkipTheStackTrace() {
+        assertEquals(0, new InvalidIntegerException("x").getStackTrace().length);
+        assertEquals(0, new EnumNotFoundException("x").getStackTrace().length);
+        assertEquals(0, new MissingArgumentException(null, null).getStackTrace().length);
+        assertEquals(0, new UnknownParameterException("x", false).getStackTrace().length);
+    }
+
+    @Test
+    void subclassesKeepTheStackTrace() {
+        assertNotEquals(0, new InvalidColorException("x").getStackTrace().length);
+        assertNotEquals(0, new CustomIntegerException("x").getStackTrace().length);
+        assertNotEquals(0, new CustomMissingArgumentException().getStackTrace().length);
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.exception;
+
+import org.junit.jupiter.api.Test;
+import revxrsal.commands.Lamp;
+import revxrsal.commands.TestActor;
+import revxrsal.commands.annotation.Command;
+import revxrsal.commands.command.ExecutableCommand;
+import revxrsal.commands.exception.context.ErrorContext;
+import revxrsal.commands.node.ExecutionContext;
+import revxrsal.commands.stream.StringStream;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RuntimeExceptionAdapterTest {
+
+    static class ParentException extends RuntimeException {}
+
+    static final class ChildException extends ParentException {}
+
+    static final class OtherException extends RuntimeException {}
+
+    static final class RecordingAdapter extends RuntimeExceptionAdapter<TestActor> {
+
+        final List<String> invoked = new ArrayList<>();
+
+        @HandleException
+        public void onParent(ParentException e) {
+            invoked.add("parent");
+        }
+
+        @HandleException
+        public void onChild(ChildException e, TestActor actor) {
+            invoked.add("child");
+        }
+
+        @HandleException
+        public void onAnything() {
+            invoked.add("anything");
+        }
+
+        @HandleException
+        public void onUnknownCommand(Throwable e, ErrorContext.UnknownCommand<TestActor> context) {
+            invoked.add("unknown command");
+        }
+
+        @HandleException
+        public void onExecution(OtherException e, ExecutionContext<TestActor> context) {
+            invoked.add("execution " + context.command().path());
+        }
+    }
+
+    public static final class Commands {
+
+        @Command("test")
+        public void test(TestActor actor) {
+        }
+    }
+
+    private final Lamp<TestActor> lamp = TestActor.lamp(new Commands());
+    private final TestActor actor = TestActor.of(lamp);
+
+    private List<String> handle(RecordingAdapter adapter, Throwable throwable, ErrorContext<TestActor> context) {
+        adapter.invoked.clear();
+        adapter.handleException(throwable, context);
+        List<String> invoked = new ArrayList<>(adapter.invoked);
+        invoked.sort(null);
+        return invoked;
+    }
+
+    private ErrorContext<TestActor> executingFunction() {
+        ExecutableCommand<TestActor> command = lamp.registry().commands().get(0);
+        return ErrorContext.executingFunction(ExecutionContext.create(command, actor, StringStream.create("test")));
+    }
+
+    @Test
+    void handlersMatchTheThrowableTypeAndItsSubclasses() {
+        RecordingAdapter adapter = new RecordingAdapter();
+        ErrorContext<TestActor> context = executingFunction();
+
+        assertEquals(asList("anything", "parent"), handle(adapter, new ParentException(), context));
+        assertEquals(asList("anything", "child", "parent"), handle(adapter, new ChildException(), context));
+        assertEquals(singletonList("anything"), handle(adapter, new IllegalStateException(), context));
+    }
+
+    @Test
+    void resultsDoNotDependOnTheOrderThrowablesAreSeen() {
+        RecordingAdapter adapter = new RecordingAdapter();
+        ErrorContext<TestActor> context = executingFunction();
+
+        assertEquals(asList("anything", "child", "parent"), handle(adapter, new ChildException(), context));
+        assertEquals(asList("anything", "parent"), handle(adapter, new ParentException(), context));
+        assertEquals(asList("anything", "child", "parent"), handle(adapter, new ChildException(), context));
+    }
+
+    @Test
+    void handlersMatchTheErrorContext() {
+        RecordingAdapter adapter = new RecordingAdapter();
+
+        assertEquals(asList("anything", "unknown command"), handle(adapter, new OtherException(), ErrorContext.unknownCommand(actor)));
+        assertEquals(asList("anything", "execution test"), handle(adapter, new OtherException(), executingFunction()));
+    }
+
+    @Test
+    void adaptersDoNotShareDispatchTables() {
+        RecordingAdapter first = new RecordingAdapter();
+        RuntimeExceptionAdapter<TestActor> second = new RuntimeExceptionAdapter<TestActor>() {
+            @HandleException
+            public void onOther(OtherException e) {
+                actor.reply("other");
+            }
+        };
+        ErrorContext<TestActor> context = executingFunction();
+
+        handle(first, new OtherException(), context);
+        second.handleException(new ParentException(), context);
+        assertTrue(actor.messages().isEmpty());
+        second.handleException(new OtherException(), context);
+        assertEquals(singletonList("other"), actor.messages());
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.metrics;
+
+import org.junit.jupiter.api.Test;
+import revxrsal.commands.Lamp;
+import revxrsal.commands.TestActor;
+import revxrsal.commands.annotation.Command;
+import revxrsal.commands.command.ExecutableCommand;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class InMemoryLampMetricsTest {
+
+    public static final class EcoCommands {
+
+        @Command("eco give")
+        public void give(TestActor actor, String target, int amount) {
+        }
+    }
+
+    @Test
+    void keysMetricsByName() {
+        Lamp<TestActor> lamp = TestActor.lamp(new EcoCommands());
+        ExecutableCommand<TestActor> command = lamp.registry().commands().get(0);
+        InMemoryLampMetrics metrics = LampMetrics.inMemory();
+
+        metrics.recordExecution(command, true, 10);
+        metrics.recordExecution(command, false, 20);
+        metrics.recordParse(command.parameter("amount"), false, 5);
+        metrics.recordFailure(new IllegalStateException());
+        metrics.recordFailure(new IllegalStateException());
+        InMemoryLampMetrics.Snapshot snapshot = metrics.snapshot();
+
+        assertEquals(Collections.singleton(command.path()), snapshot.executions().keySet());
+        assertEquals(2, snapshot.executions().get(command.path()).count());
+        assertEquals(1, snapshot.failedExecutions());
+        assertEquals(Collections.singleton("int"), snapshot.parses().keySet());
+        assertEquals(1, snapshot.failedParses());
+        assertEquals(Collections.singletonMap(IllegalStateException.class.getName(), 2L), snapshot.failures());
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LatencyHistogramTest {
+
+    @Test
+    void emptyHistogramsReportZero() {
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+
+        assertEquals(0, snapshot.count());
+        assertEquals(0, snapshot.total());
+        assertEquals(0, snapshot.max());
+        assertEquals(0, snapshot.mean());
+        assertEquals(0, snapshot.percentile(50));
+        assertEquals(0, snapshot.percentile(100));
+    }
+
+    @Test
+    void oneSampleIsEveryPercentile() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(100);
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(1, snapshot.count());
+        assertEquals(100, snapshot.mean());
+        // the bucket of 100 ends at 127, which is capped at the maximum
+        assertEquals(100, snapshot.percentile(0));
+        assertEquals(100, snapshot.percentile(50));
+        assertEquals(100, snapshot.percentile(99));
+        assertEquals(100, snapshot.percentile(100));
+    }
+
+    @Test
+    void percentilesAreTheUpperBoundOfTheirBucket() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(8);
+        histogram.record(1000);
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        // 8 is counted in [8, 16)
+        assertEquals(15, snapshot.percentile(50));
+        assertEquals(1000, snapshot.percentile(51));
+    }
+
+    @Test
+    void p50AndP99Boundaries() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 50; i++)
+            histogram.record(1);
+        for (int i = 0; i < 49; i++)
+            histogram.record(100);
+        histogram.record(10_000);
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(100, snapshot.count());
+        // the 50th sample is the last 1, and the 51st is the first 100
+        assertEquals(1, snapshot.percentile(50));
+        assertEquals(127, snapshot.percentile(50.5));
+        // the 99th sample is the last 100, and the 100th is 10,000
+        assertEquals(127, snapshot.percentile(99));
+        assertEquals(10_000, snapshot.percentile(99.5));
+        assertEquals(10_000, snapshot.percentile(100));
+    }
+
+    @Test
+    void negativeDurationsAreCountedAsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(1, snapshot.count());
+        assertEquals(0, snapshot.max());
+        assertEquals(0, snapshot.percentile(100));
+    }
+
+    @Test
+    void largestDurationsOverflowIntoTheLastBucket() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1L << 62);
+        histogram.record(Long.MAX_VALUE - 1);
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        // both are in the last bucket, which has no upper bound but the maximum
+        assertEquals(2, snapshot.count());
+        assertEquals(Long.MAX_VALUE - 1, snapshot.max());
+        assertEquals(Long.MAX_VALUE - 1, snapshot.percentile(1));
+        assertEquals(Long.MAX_VALUE - 1, snapshot.percentile(100));
+    }
+
+    @Test
+    void rejectsPercentilesOutOfRange() {
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+
+        assertThrows(IllegalArgumentException.class, () -> snapshot.percentile(-1));
+        assertThrows(IllegalArgumentException.class, () -> snapshot.percentile(100.5));
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.node.parser;
+
+import org.junit.jupiter.api.Test;
+import revxrsal.commands.Lamp;
+import revxrsal.commands.TestActor;
+import revxrsal.commands.annotation.Command;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BaseCommandRegistryTest {
+
+    public static final class EcoCommands {
+
+        @Command("eco")
+        public void ofInt(TestActor actor, int amount) {
+            actor.reply("int");
+        }
+
+        @Command("eco")
+        public void ofLong(TestActor actor, long amount) {
+            actor.reply("long");
+        }
+
+        @Command("eco")
+        public void ofShort(TestActor actor, short amount) {
+            actor.reply("short");
+        }
+
+        @Command("eco")
+        public void ofUUID(TestActor actor, UUID id) {
+            actor.reply("uuid");
+        }
+
+        @Command("eco")
+        public void ofBoolean(TestActor actor, boolean value) {
+            actor.reply("boolean");
+        }
+
+        @Command("eco")
+        public void ofDouble(TestActor actor, double amount) {
+            actor.reply("double");
+        }
+
+        @Command("eco")
+        public void ofStrings(TestActor actor, String first, String second) {
+            actor.reply("strings " + first + " " + second);
+        }
+    }
+
+    @Test
+    void testsCandidatesPastTheMaximumFailedAttempts() {
+        Lamp<TestActor> lamp = Lamp.<TestActor>builder()
+                .dispatcherSettings(settings -> settings.maximumFailedAttempts(5))
+                .build();
+        lamp.register(new EcoCommands());
+        TestActor actor = TestActor.of(lamp);
+
+        lamp.dispatch(actor, "eco x y");
+
+        assertEquals("strings x y", String.join("\n", actor.messages()));
+        assertTrue(actor.errors().isEmpty(), () -> "Unexpected errors: " + actor.errors());
+    }
+
+    @Test
+    void reportsFailuresWhenNoCandidateSucceeds() {
+        Lamp<TestActor> lamp = TestActor.lamp(new EcoCommands());
+        TestActor actor = TestActor.of(lamp);
+
+        lamp.dispatch(actor, "eco x");
+
+        assertFalse(actor.messages().isEmpty());
+        assertTrue(actor.messages().stream().noneMatch(message -> message.startsWith("strings")));
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.node.parser;
+
+import org.junit.jupiter.api.Test;
+import revxrsal.commands.Lamp;
+import revxrsal.commands.TestActor;
+import revxrsal.commands.annotation.Command;
+import revxrsal.commands.annotation.Default;
+import revxrsal.commands.annotation.Flag;
+import revxrsal.commands.annotation.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FlagParserTest {
+
+    public static final class FxCommand {
+
+        @Command("fx")
+        public void fx(TestActor actor, String target, @Flag("count") @Optional @Default("1") int count) {
+            actor.reply("fx " + target + " " + count);
+        }
+    }
+
+    @Test
+    void parsesFlagValues() {
+        Lamp<TestActor> lamp = TestActor.lamp(new FxCommand());
+        TestActor actor = TestActor.of(lamp);
+
+        lamp.dispatch(actor, "fx bob --count 4");
+        lamp.dispatch(actor, "fx bob");
+
+        assertEquals("fx bob 4\nfx bob 1", String.join("\n", actor.messages()));
+        assertTrue(actor.errors().isEmpty(), () -> "Unexpected errors: " + actor.errors());
+    }
+
+    @Test
+    void reportsFlagsWithoutValuesAsMissing() {
+        Lamp<TestActor> lamp = TestActor.lamp(new FxCommand());
+
+        for (String input : new String[]{"fx bob --count", "fx bob --count  ", "fx bob -c"}) {
+            TestActor actor = TestActor.of(lamp);
+            lamp.dispatch(actor, input);
+
+            assertTrue(actor.messages().isEmpty(), () -> input + " => " + actor.messages());
+            assertEquals(1, actor.errors().size(), () -> input + " => " + actor.errors());
+            assertTrue(
+                    actor.errors().get(0).startsWith("Required parameter is missing: count"),
+                    () -> input + " => " + actor.errors()
+            );
+        }
+    }
+}
@@ -30,6 +30,7 @@ import com.mojang.brigadier.tree.RootCommandNode;
 import net.minecraft.server.command.ServerCommandSource;
 import org.jetbrains.annotations.NotNull;
 import revxrsal.commands.Lamp;
+import revxrsal.commands.brigadier.BrigadierAdapter;
 import revxrsal.commands.brigadier.BrigadierConverter;
 import revxrsal.commands.brigadier.BrigadierParser;
 import revxrsal.commands.command.ExecutableCommand;
@@ -56,7 +57,7 @@ public final class FabricCommandHooks<A extends FabricCommandActor> implements C
         this.config = config;
         EVENT.register((dispatcher, registryAccess, environment) -> {
             for (CommandNode<ServerCommandSource> child : root.getChildren()) {
-                dispatcher.getRoot().addChild(child);
+                BrigadierAdapter.addChild(dispatcher.getRoot(), child);
             }
         });
     }
@@ -64,7 +65,7 @@ public final class FabricCommandHooks<A extends FabricCommandActor> implements C
     @Override
     public void onRegistered(@NotNull ExecutableCommand<A> command, @NotNull CancelHandle cancelHandle) {
         LiteralCommandNode<ServerCommandSource> node = parser.createNode(command);
-        root.addChild(node);
+        BrigadierAdapter.addChild(root, node);
     }
 
     @Override
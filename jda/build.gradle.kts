@@ -9,4 +9,16 @@ repositories {
 dependencies {
     implementation(project(":common"))
     compileOnly("net.dv8tion:JDA:5.1.0")
-}
\ No newline at end of file
+    testImplementation("net.dv8tion:JDA:5.1.0")
+    testImplementation(platform("org.junit:junit-bom:5.10.0"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+}
+
+tasks {
+    test {
+        useJUnitPlatform()
+    }
+    compileTestJava {
+        options.compilerArgs.add("-parameters")
+    }
+}
@@ -30,6 +30,7 @@ import net.dv8tion.jda.api.entities.channel.concrete.NewsChannel;
 import net.dv8tion.jda.api.entities.channel.concrete.StageChannel;
 import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
 import net.dv8tion.jda.api.entities.channel.concrete.VoiceChannel;
+import net.dv8tion.jda.api.interactions.callbacks.IReplyCallback;
 import net.dv8tion.jda.api.interactions.commands.Command.Choice;
 import net.dv8tion.jda.api.interactions.commands.OptionMapping;
 import net.dv8tion.jda.api.interactions.commands.OptionType;
@@ -50,9 +51,16 @@ import revxrsal.commands.jda.exception.MemberNotInGuildException;
 import revxrsal.commands.jda.exception.WrongChannelTypeException;
 import revxrsal.commands.node.CommandNode;
 import revxrsal.commands.node.ParameterNode;
+import revxrsal.commands.util.Lazy;
 import revxrsal.commands.util.Numbers;
 
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static java.lang.Math.max;
 import static java.lang.Math.min;
@@ -68,6 +76,11 @@ public final class JDAUtils {
 
     private static final Map<Class<? extends Channel>, ChannelType> CHANNEL_TYPES = new HashMap<>();
 
+    private static final Supplier<Executor> COMMAND_EXECUTOR = Lazy.of(JDAUtils::createCommandExecutor);
+
+    // interactions whose acknowledgement has been claimed, see #claimAcknowledgement
+    private static final Map<IReplyCallback, Boolean> ACKNOWLEDGED = Collections.synchronizedMap(new WeakHashMap<>());
+
     static {
         for (ChannelType value : ChannelType.values()) {
             CHANNEL_TYPES.put(value.getInterface(), value);
@@ -371,6 +384,23 @@ public final class JDAUtils {
         return map(suggestions, s -> toChoice(s, type));
     }
 
+    /**
+     * Maps the given stream of suggestions to a list of {@link Choice}s. This will
+     * convert them to doubles or integers if necessary, and stop consuming the stream
+     * after {@link OptionData#MAX_CHOICES} choices, which is the most that Discord accepts.
+     *
+     * @param suggestions Suggestions to map
+     * @param type        The suggestions type
+     * @return The list of choices
+     */
+    public static @NotNull List<Choice> toChoices(@NotNull Stream<String> suggestions, @NotNull OptionType type) {
+        return suggestions
+                .distinct()
+                .limit(MAX_CHOICES)
+                .map(s -> toChoice(s, type))
+                .collect(Collectors.toList());
+    }
+
     /**
      * Returns the required literal path of the given command. This will
      * join all the paths of literals until it encounters a non-literal.
@@ -400,4 +430,60 @@ public final class JDAUtils {
     public static @Nullable ChannelType channelType(@NotNull Class<? extends Channel> channelInterface) {
         return CHANNEL_TYPES.get(channelInterface);
     }
+
+    /**
+     * Returns the default {@link Executor} that runs slash commands off the JDA
+     * event thread. This uses a virtual thread per command when running on Java 21
+     * or newer, and a cached pool of daemon threads otherwise.
+     *
+     * @return The default command executor
+     */
+    public static @NotNull Executor commandExecutor() {
+        return COMMAND_EXECUTOR.get();
+    }
+
+    /**
+     * Claims the acknowledgement of the given interaction. Only the first caller
+     * for an interaction that has not been acknowledged yet gets {@code true},
+     * and should acknowledge it, for example by replying or deferring the reply.
+     * Other callers should send their messages through the
+     * {@link IReplyCallback#getHook() interaction hook} instead.
+     * <p>
+     * This allows {@link SlashCommandActor} replies and the automatic deferral
+     * of slash commands, which run on different threads, to never both
+     * acknowledge the same interaction.
+     *
+     * @param interaction The interaction to acknowledge
+     * @return {@code true} if the caller should acknowledge the interaction
+     */
+    public static boolean claimAcknowledgement(@NotNull IReplyCallback interaction) {
+        if (interaction.isAcknowledged())
+            return false;
+        return ACKNOWLEDGED.putIfAbsent(interaction, Boolean.TRUE) == null;
+    }
+
+    /**
+     * Tests whether the given interaction has been acknowledged, or is about to
+     * be acknowledged by the caller of {@link #claimAcknowledgement(IReplyCallback)}.
+     *
+     * @param interaction The interaction to test
+     * @return {@code true} if messages should be sent through the interaction hook
+     */
+    public static boolean isAcknowledgementClaimed(@NotNull IReplyCallback interaction) {
+        return interaction.isAcknowledged() || ACKNOWLEDGED.containsKey(interaction);
+    }
+
+    private static @NotNull Executor createCommandExecutor() {
+        try {
+            // Lamp targets Java 8, so virtual threads can only be looked up reflectively
+            return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "Lamp JDA Command Thread #" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
 }
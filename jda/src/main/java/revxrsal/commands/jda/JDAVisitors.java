@@ -43,6 +43,9 @@ import revxrsal.commands.jda.slash.JDAParser;
 import revxrsal.commands.jda.slash.JDASlashListener;
 import revxrsal.commands.process.SenderResolver;
 
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
 import static revxrsal.commands.jda.parameters.SnowflakeParameterTypes.*;
 
 /**
@@ -63,15 +66,74 @@ public final class JDAVisitors {
      */
     public static <A extends SlashCommandActor> @NotNull LampVisitor<A> slashCommands(@NotNull JDA jda, @NotNull SlashActorFactory<A> actorFactory) {
         return lamp -> {
-            JDAParser<A> parser = new JDAParser<>();
-            for (ExecutableCommand<A> child : lamp.registry().commands()) {
-                parser.parse(child);
-            }
-            jda.updateCommands().addCommands(parser.commands().values()).queue();
+            updateCommands(jda, lamp);
             jda.addEventListener(new JDASlashListener<>(lamp, actorFactory));
         };
     }
 
+    /**
+     * Instructs Lamp to send all the currently registered commands to Discord, and
+     * to run them on the given {@link Executor} instead of the JDA event thread.
+     * <p>
+     * Commands that have not acknowledged the interaction within {@code deferAfter}
+     * are automatically deferred using {@link SlashCommandActor#deferReply()}. After
+     * that, messages sent by the actor go through the {@link SlashCommandActor#hook() interaction hook}.
+     *
+     * @param jda          JDA instance to bind commands into
+     * @param actorFactory The actor factory. This allows for supplying custom implementations
+     *                     of {@link SlashActorFactory}
+     * @param executor     The executor to run commands on
+     * @param deferAfter   The time after which commands that have not replied are deferred
+     * @return The visitor
+     * @see JDAUtils#commandExecutor()
+     */
+    public static <A extends SlashCommandActor> @NotNull LampVisitor<A> slashCommands(
+            @NotNull JDA jda,
+            @NotNull SlashActorFactory<A> actorFactory,
+            @NotNull Executor executor,
+            @NotNull Duration deferAfter
+    ) {
+        return lamp -> {
+            updateCommands(jda, lamp);
+            jda.addEventListener(new JDASlashListener<>(lamp, actorFactory, executor, deferAfter));
+        };
+    }
+
+    /**
+     * Instructs Lamp to send all the currently registered commands to Discord, and
+     * to run them asynchronously on {@link JDAUtils#commandExecutor()}. Commands that have not
+     * replied within {@link JDASlashListener#DEFAULT_DEFER_AFTER} are automatically deferred.
+     *
+     * @param jda          JDA instance to bind commands into
+     * @param actorFactory The actor factory. This allows for supplying custom implementations
+     *                     of {@link SlashActorFactory}
+     * @return The visitor
+     * @see #slashCommands(JDA, SlashActorFactory, Executor, Duration)
+     */
+    public static <A extends SlashCommandActor> @NotNull LampVisitor<A> asyncSlashCommands(@NotNull JDA jda, @NotNull SlashActorFactory<A> actorFactory) {
+        return slashCommands(jda, actorFactory, JDAUtils.commandExecutor(), JDASlashListener.DEFAULT_DEFER_AFTER);
+    }
+
+    /**
+     * Instructs Lamp to send all the currently registered commands to Discord, and
+     * to run them asynchronously on {@link JDAUtils#commandExecutor()}. Commands that have not
+     * replied within {@link JDASlashListener#DEFAULT_DEFER_AFTER} are automatically deferred.
+     *
+     * @param jda JDA instance to bind commands into
+     * @return The visitor
+     */
+    public static @NotNull LampVisitor<SlashCommandActor> asyncSlashCommands(@NotNull JDA jda) {
+        return asyncSlashCommands(jda, SlashActorFactory.defaultFactory());
+    }
+
+    private static <A extends SlashCommandActor> void updateCommands(@NotNull JDA jda, @NotNull Lamp<A> lamp) {
+        JDAParser<A> parser = new JDAParser<>();
+        for (ExecutableCommand<A> child : lamp.registry().commands()) {
+            parser.parse(child);
+        }
+        jda.updateCommands().addCommands(parser.commands().values()).queue();
+    }
+
     /**
      * Instructs Lamp to send all the currently registered commands to Discord
      *
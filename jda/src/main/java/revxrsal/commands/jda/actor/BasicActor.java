@@ -25,8 +25,10 @@ package revxrsal.commands.jda.actor;
 
 import net.dv8tion.jda.api.entities.User;
 import net.dv8tion.jda.api.events.interaction.GenericInteractionCreateEvent;
+import net.dv8tion.jda.api.interactions.callbacks.IReplyCallback;
 import org.jetbrains.annotations.NotNull;
 import revxrsal.commands.Lamp;
+import revxrsal.commands.jda.JDAUtils;
 import revxrsal.commands.util.Lazy;
 
 import java.util.UUID;
@@ -60,11 +62,20 @@ final class BasicActor implements SlashCommandActor {
     }
 
     @Override public void sendRawMessage(@NotNull String message) {
-        event.getMessageChannel().sendMessage(message).queue();
+        send(message);
     }
 
     @Override public void sendRawError(@NotNull String message) {
-        event.getMessageChannel().sendMessage("🛑 " + message).queue();
+        send("🛑 " + message);
+    }
+
+    private void send(@NotNull String message) {
+        // once the interaction is acknowledged (e.g. automatically deferred),
+        // messages go through the hook so that they replace the "thinking" message
+        if (event instanceof IReplyCallback && JDAUtils.isAcknowledgementClaimed((IReplyCallback) event))
+            ((IReplyCallback) event).getHook().sendMessage(message).queue();
+        else
+            event.getMessageChannel().sendMessage(message).queue();
     }
 
     @Override public Lamp<SlashCommandActor> lamp() {
@@ -33,6 +33,7 @@ import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInterac
 import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
 import net.dv8tion.jda.api.interactions.InteractionHook;
 import net.dv8tion.jda.api.interactions.callbacks.IReplyCallback;
+import net.dv8tion.jda.api.requests.RestAction;
 import net.dv8tion.jda.api.requests.restaction.interactions.ReplyCallbackAction;
 import net.dv8tion.jda.api.utils.messages.MessageCreateData;
 import org.jetbrains.annotations.CheckReturnValue;
@@ -41,6 +42,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import revxrsal.commands.Lamp;
 import revxrsal.commands.command.CommandActor;
+import revxrsal.commands.jda.JDAUtils;
 import revxrsal.commands.jda.exception.GuildOnlyCommandException;
 
 /**
@@ -167,28 +169,80 @@ public interface SlashCommandActor extends CommandActor {
 
     /**
      * Reply to this interaction and acknowledge it.
+     * <br>This prevents {@link revxrsal.commands.jda.slash.JDASlashListener} from
+     * deferring the interaction automatically. If it has been deferred already, the
+     * returned action fails, so {@link #respond(String)} should be preferred
+     * for commands that may take longer to reply.
      *
      * @param content The message content to send
      * @return {@link ReplyCallbackAction}
      * @see IReplyCallback#reply(String)
+     * @see #respond(String)
      */
     @CheckReturnValue
-    @Contract(pure = true)
     default ReplyCallbackAction replyToInteraction(@NotNull String content) {
-        return commandEvent().reply(content);
+        SlashCommandInteractionEvent event = commandEvent();
+        JDAUtils.claimAcknowledgement(event);
+        return event.reply(content);
     }
 
     /**
      * Reply to this interaction and acknowledge it.
+     * <br>This prevents {@link revxrsal.commands.jda.slash.JDASlashListener} from
+     * deferring the interaction automatically. If it has been deferred already, the
+     * returned action fails, so {@link #respond(MessageCreateData)} should be preferred
+     * for commands that may take longer to reply.
      *
      * @param content The message content to send
      * @return {@link ReplyCallbackAction}
      * @see IReplyCallback#reply(String)
+     * @see #respond(MessageCreateData)
      */
     @CheckReturnValue
-    @Contract(pure = true)
     default ReplyCallbackAction replyToInteraction(@NotNull MessageCreateData content) {
-        return commandEvent().reply(content);
+        SlashCommandInteractionEvent event = commandEvent();
+        JDAUtils.claimAcknowledgement(event);
+        return event.reply(content);
+    }
+
+    /**
+     * Replies to this interaction, or sends a followup message through the {@link #hook()}
+     * if the interaction has already been acknowledged, for example because it was
+     * automatically deferred by {@link revxrsal.commands.jda.slash.JDASlashListener}.
+     * <br>The decision is made when this method is called, so the returned action
+     * should be queued right away.
+     * <br>The first followup message of a deferred interaction replaces the {@code <Bot> is thinking...} message.
+     *
+     * @param content The message content to send
+     * @return The {@link RestAction} that sends the message
+     * @see #replyToInteraction(String)
+     */
+    @CheckReturnValue
+    default @NotNull RestAction<?> respond(@NotNull String content) {
+        SlashCommandInteractionEvent event = commandEvent();
+        if (JDAUtils.claimAcknowledgement(event))
+            return event.reply(content);
+        return event.getHook().sendMessage(content);
+    }
+
+    /**
+     * Replies to this interaction, or sends a followup message through the {@link #hook()}
+     * if the interaction has already been acknowledged, for example because it was
+     * automatically deferred by {@link revxrsal.commands.jda.slash.JDASlashListener}.
+     * <br>The decision is made when this method is called, so the returned action
+     * should be queued right away.
+     * <br>The first followup message of a deferred interaction replaces the {@code <Bot> is thinking...} message.
+     *
+     * @param content The message content to send
+     * @return The {@link RestAction} that sends the message
+     * @see #replyToInteraction(MessageCreateData)
+     */
+    @CheckReturnValue
+    default @NotNull RestAction<?> respond(@NotNull MessageCreateData content) {
+        SlashCommandInteractionEvent event = commandEvent();
+        if (JDAUtils.claimAcknowledgement(event))
+            return event.reply(content);
+        return event.getHook().sendMessage(content);
     }
 
     /**
@@ -200,9 +254,10 @@ public interface SlashCommandActor extends CommandActor {
      * @see IReplyCallback#deferReply(boolean)
      */
     @CheckReturnValue
-    @Contract(pure = true)
     default ReplyCallbackAction deferReply(boolean ephemeral) {
-        return commandEvent().deferReply(ephemeral);
+        SlashCommandInteractionEvent event = commandEvent();
+        JDAUtils.claimAcknowledgement(event);
+        return event.deferReply(ephemeral);
     }
 
     /**
@@ -213,9 +268,10 @@ public interface SlashCommandActor extends CommandActor {
      * @see IReplyCallback#deferReply()
      */
     @CheckReturnValue
-    @Contract(pure = true)
     default ReplyCallbackAction deferReply() {
-        return commandEvent().deferReply();
+        SlashCommandInteractionEvent event = commandEvent();
+        JDAUtils.claimAcknowledgement(event);
+        return event.deferReply();
     }
 
     /**
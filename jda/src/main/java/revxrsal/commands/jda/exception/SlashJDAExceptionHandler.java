@@ -38,7 +38,7 @@ public class SlashJDAExceptionHandler<A extends SlashCommandActor> extends Defau
 
     @HandleException
     public void onMemberNotInGuild(MemberNotInGuildException e, SlashCommandActor actor) {
-        actor.commandEvent().reply("🛑 User **" + e.suppliedUser().getEffectiveName() + "** is not in this guild.").queue();
+        actor.respond("🛑 User **" + e.suppliedUser().getEffectiveName() + "** is not in this guild.").queue();
     }
 
     @HandleException
@@ -46,22 +46,22 @@ public class SlashJDAExceptionHandler<A extends SlashCommandActor> extends Defau
         String typeName = e.expectedType().getSimpleName();
         String exp = separateCamelCase(typeName, " ").toLowerCase(Locale.ENGLISH);
         String rec = e.channel().getType().name().toLowerCase().replace('_', ' ');
-        actor.commandEvent().reply("🛑 Wrong channel type. Expected a **" + exp + "**, received a **" + rec + "**.").queue();
+        actor.respond("🛑 Wrong channel type. Expected a **" + exp + "**, received a **" + rec + "**.").queue();
     }
 
     @HandleException
     public void onGuildOnlyCommand(GuildOnlyCommandException e, SlashCommandActor actor) {
-        actor.commandEvent().reply("🛑 This command can only be used in guilds").queue();
+        actor.respond("🛑 This command can only be used in guilds").queue();
     }
 
     @Override public void onCommandInvocation(@NotNull CommandInvocationException e, @NotNull A actor) {
-        actor.commandEvent().reply("🛑 An error has occurred while executing this command. Please contact the developers." +
+        actor.respond("🛑 An error has occurred while executing this command. Please contact the developers." +
                 " Errors have been printed to the console.").queue();
         e.cause().printStackTrace();
     }
 
     @Override public void onNoPermission(@NotNull NoPermissionException e, @NotNull A actor) {
-        actor.replyToInteraction("🛑 You do not have permission to execute this command!").queue();
+        actor.respond("🛑 You do not have permission to execute this command!").queue();
     }
 
     @HandleException
@@ -72,9 +72,9 @@ public class SlashJDAExceptionHandler<A extends SlashCommandActor> extends Defau
     @Override
     public void onInvalidHelpPage(@NotNull InvalidHelpPageException e, @NotNull A actor) {
         if (e.numberOfPages() == 1)
-            actor.replyToInteraction("🛑 Invalid help page: **" + e.page() + "**. Must be 1.").queue();
+            actor.respond("🛑 Invalid help page: **" + e.page() + "**. Must be 1.").queue();
         else
-            actor.replyToInteraction("🛑 Invalid help page: **" + e.page() + "**. Must be between 1 and " + e.numberOfPages()).queue();
+            actor.respond("🛑 Invalid help page: **" + e.page() + "**. Must be between 1 and " + e.numberOfPages()).queue();
     }
 
     @HandleException
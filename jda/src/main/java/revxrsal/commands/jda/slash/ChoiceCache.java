@@ -0,0 +1,141 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.jda.slash;
+
+import net.dv8tion.jda.api.interactions.commands.Command.Choice;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * A small, bounded cache for the auto-completion choices of slash command
+ * options. Entries expire after a fixed time, so that suggestions that
+ * depend on changing data are not stale for long.
+ * <p>
+ * Choices are keyed by the guild, the user, the full command name, the focused
+ * option and the value that the user has typed so far. Suggestion providers
+ * receive the actor, so the choices of one user are never shown to another.
+ * Discord sends an auto-complete request for every keystroke, so a user that
+ * types the same prefix again in quick succession hits the cache rather than
+ * the suggestion provider.
+ * <p>
+ * As suggestion providers may read the values of other options, only queries
+ * in which the focused option is the only option should be cached.
+ */
+final class ChoiceCache {
+
+    private final Map<Key, CachedChoices> entries;
+    private final long timeToLiveNanos;
+    private final LongSupplier nanoTime;
+
+    ChoiceCache(int maximumSize, @NotNull Duration timeToLive) {
+        this(maximumSize, timeToLive, System::nanoTime);
+    }
+
+    ChoiceCache(int maximumSize, @NotNull Duration timeToLive, @NotNull LongSupplier nanoTime) {
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.nanoTime = nanoTime;
+        this.entries = new LinkedHashMap<Key, CachedChoices>(16, 0.75f, true) {
+            @Override protected boolean removeEldestEntry(Map.Entry<Key, CachedChoices> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached choices, or {@code null} if they have not been
+     * computed yet or have expired.
+     *
+     * @param key The cache key
+     * @return The choices, or {@code null}.
+     */
+    synchronized @Nullable List<Choice> get(@NotNull Key key) {
+        CachedChoices entry = entries.get(key);
+        if (entry == null)
+            return null;
+        if (nanoTime.getAsLong() - entry.createdAt > timeToLiveNanos) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.choices;
+    }
+
+    synchronized void put(@NotNull Key key, @NotNull List<Choice> choices) {
+        entries.put(key, new CachedChoices(choices, nanoTime.getAsLong()));
+    }
+
+    private static final class CachedChoices {
+
+        private final List<Choice> choices;
+        private final long createdAt;
+
+        private CachedChoices(List<Choice> choices, long createdAt) {
+            this.choices = choices;
+            this.createdAt = createdAt;
+        }
+    }
+
+    static final class Key {
+
+        // the ID of the guild, or 0 in direct messages
+        private final long guild;
+        private final long user;
+        private final String command;
+        private final String option;
+        private final String prefix;
+
+        Key(long guild, long user, @NotNull String command, @NotNull String option, @NotNull String prefix) {
+            this.guild = guild;
+            this.user = user;
+            this.command = command;
+            this.option = option;
+            this.prefix = prefix;
+        }
+
+        @Override public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return guild == key.guild
+                    && user == key.user
+                    && command.equals(key.command)
+                    && option.equals(key.option)
+                    && prefix.equals(key.prefix);
+        }
+
+        @Override public int hashCode() {
+            int result = Long.hashCode(guild);
+            result = 31 * result + Long.hashCode(user);
+            result = 31 * result + command.hashCode();
+            result = 31 * result + option.hashCode();
+            result = 31 * result + prefix.hashCode();
+            return result;
+        }
+    }
+}
@@ -23,15 +23,21 @@
  */
 package revxrsal.commands.jda.slash;
 
+import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.events.GenericEvent;
 import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
 import net.dv8tion.jda.api.hooks.EventListener;
+import net.dv8tion.jda.api.interactions.AutoCompleteQuery;
 import net.dv8tion.jda.api.interactions.commands.Command;
 import net.dv8tion.jda.api.interactions.commands.OptionMapping;
 import net.dv8tion.jda.api.interactions.commands.OptionType;
+import net.dv8tion.jda.api.requests.RestAction;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import revxrsal.commands.Lamp;
+import revxrsal.commands.autocomplete.AsyncSuggestionProvider;
+import revxrsal.commands.autocomplete.SuggestionProvider;
 import revxrsal.commands.command.ExecutableCommand;
 import revxrsal.commands.jda.JDAUtils;
 import revxrsal.commands.jda.actor.SlashActorFactory;
@@ -41,31 +47,113 @@ import revxrsal.commands.node.MutableExecutionContext;
 import revxrsal.commands.node.ParameterNode;
 import revxrsal.commands.stream.MutableStringStream;
 import revxrsal.commands.stream.StringStream;
+import revxrsal.commands.util.Futures;
 
-import java.util.Collection;
-import java.util.HashMap;
+import java.time.Duration;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
 
+import static net.dv8tion.jda.api.interactions.commands.build.OptionData.MAX_CHOICES;
 import static revxrsal.commands.exception.context.ErrorContext.parsingParameter;
-import static revxrsal.commands.jda.JDAUtils.findCommand;
 import static revxrsal.commands.jda.JDAUtils.toChoices;
+import static revxrsal.commands.util.Preconditions.notNull;
+import static revxrsal.commands.util.Strings.startsWithIgnoreCase;
 
 public final class JDASlashListener<A extends SlashCommandActor> implements EventListener {
 
+    /**
+     * The default time after which a command that has not replied yet is
+     * automatically deferred. Discord requires interactions to be acknowledged
+     * within 3 seconds, so this leaves some room for network latency.
+     */
+    public static final Duration DEFAULT_DEFER_AFTER = Duration.ofSeconds(2);
+
+    /**
+     * The time for which the auto-completion choices of an option are cached
+     */
+    private static final Duration CHOICES_TIME_TO_LIVE = Duration.ofSeconds(5);
+
+    /**
+     * The maximum number of cached auto-completion queries
+     */
+    private static final int MAXIMUM_CACHED_CHOICES = 512;
+
     private final Lamp<A> lamp;
     private final SlashActorFactory<A> actorFactory;
+    private final SlashCommandIndex<A> index;
+    private final @Nullable Executor executor;
+    private final @NotNull Duration deferAfter;
+    private final ChoiceCache choiceCache = new ChoiceCache(MAXIMUM_CACHED_CHOICES, CHOICES_TIME_TO_LIVE);
 
     public JDASlashListener(Lamp<A> lamp, SlashActorFactory<A> actorFactory) {
+        this(lamp, actorFactory, null, DEFAULT_DEFER_AFTER);
+    }
+
+    /**
+     * Creates a new listener that runs slash commands on the given executor.
+     * Commands that do not acknowledge the interaction within {@code deferAfter}
+     * are automatically deferred, even if they have returned already, after which
+     * {@link SlashCommandActor} replies are sent through the interaction hook.
+     * Commands should reply through the actor rather than the event, so that
+     * their replies never race with the deferral.
+     *
+     * @param lamp         The {@link Lamp} instance
+     * @param actorFactory The actor factory
+     * @param executor     The executor to run commands on, or {@code null} to run
+     *                     them on the JDA event thread.
+     * @param deferAfter   The time after which unacknowledged commands are deferred
+     */
+    public JDASlashListener(
+            Lamp<A> lamp,
+            SlashActorFactory<A> actorFactory,
+            @Nullable Executor executor,
+            @NotNull Duration deferAfter
+    ) {
+        notNull(deferAfter, "defer after");
+        if (deferAfter.isNegative())
+            throw new IllegalArgumentException("Defer duration cannot be negative!");
         this.lamp = lamp;
         this.actorFactory = actorFactory;
+        this.index = new SlashCommandIndex<>(lamp);
+        this.executor = executor;
+        this.deferAfter = deferAfter;
     }
 
     private void onSlashCommandInteraction(@NotNull SlashCommandInteractionEvent event) {
+        if (executor == null) {
+            execute(event);
+            return;
+        }
+        // the deferral is not cancelled once the command returns, as commands may
+        // still reply later, e.g. from a CompletableFuture or another thread
+        ScheduledFuture<?> deferral = Futures.schedule(() -> deferIfNotAcknowledged(event), deferAfter);
+        try {
+            executor.execute(() -> execute(event));
+        } catch (RuntimeException e) {
+            deferral.cancel(false);
+            throw e;
+        }
+    }
+
+    private static void deferIfNotAcknowledged(@NotNull SlashCommandInteractionEvent event) {
+        if (!JDAUtils.claimAcknowledgement(event))
+            return;
+        event.deferReply().queue(null, error -> {
+            // the command acknowledged the interaction without claiming it,
+            // e.g. by replying to the event directly
+            if (!(error instanceof IllegalStateException))
+                RestAction.getDefaultFailure().accept(error);
+        });
+    }
+
+    private void execute(@NotNull SlashCommandInteractionEvent event) {
         A actor = actorFactory.create(event, lamp);
         String fullPath = event.getFullCommandName();
-        ExecutableCommand<A> command = findCommand(lamp, fullPath, event.getOptions())
-                .orElseThrow(() -> new IllegalArgumentException("No such command"));
+        ExecutableCommand<A> command = index.find(fullPath, event.getOptions());
+        if (command == null)
+            throw new IllegalArgumentException("No such command");
         ExecutionContext<A> context = readArgumentsIntoContext(
                 actor,
                 command,
@@ -76,14 +164,23 @@ public final class JDASlashListener<A extends SlashCommandActor> implements Even
         command.execute(context);
     }
 
+    @SuppressWarnings("unchecked")
     private void onCommandAutoCompleteInteraction(@NotNull CommandAutoCompleteInteractionEvent event) {
         A actor = actorFactory.create(event, lamp);
         String fullPath = event.getFullCommandName();
-        ExecutableCommand<A> command = findCommand(lamp, fullPath, event.getOptions()).orElse(null);
+        ExecutableCommand<A> command = index.find(fullPath, event.getOptions());
         if (command == null) {
             event.replyChoices().queue();
             return;
         }
+        AutoCompleteQuery focused = event.getFocusedOption();
+        String prefix = focused.getValue();
+        ChoiceCache.Key key = cacheKey(event, fullPath, focused);
+        List<Command.Choice> cached = key == null ? null : choiceCache.get(key);
+        if (cached != null) {
+            event.replyChoices(cached).queue();
+            return;
+        }
         ExecutionContext<A> context = readArgumentsIntoContext(
                 actor,
                 command,
@@ -91,13 +188,63 @@ public final class JDASlashListener<A extends SlashCommandActor> implements Even
                 event.getCommandString(),
                 true
         );
-        ParameterNode<A, ?> node = command.parameter(event.getFocusedOption().getName());
-        Collection<String> suggestions = node.suggestions().getSuggestions(context);
-
-        List<Command.Choice> choices = toChoices(suggestions, event.getFocusedOption().getType());
+        ParameterNode<A, ?> node = command.parameter(focused.getName());
+        SuggestionProvider<A> provider = node.suggestions();
+        if (provider instanceof AsyncSuggestionProvider) {
+            CompletableFuture<List<Command.Choice>> choices = ((AsyncSuggestionProvider<A>) provider)
+                    .getSuggestionsAsync(context)
+                    .thenApply(suggestions -> toChoices(
+                            suggestions.stream().filter(s -> startsWithIgnoreCase(s, prefix)),
+                            focused.getType()
+                    ));
+            // Discord drops auto-complete responses that take longer than 3 seconds
+            Futures.withTimeout(choices, lamp.dispatcherSettings().suggestionTimeout(), null)
+                    .thenAccept(result -> {
+                        if (result == null) {
+                            event.replyChoices().queue();
+                            return;
+                        }
+                        if (key != null)
+                            choiceCache.put(key, result);
+                        event.replyChoices(result).queue();
+                    });
+            return;
+        }
+        List<Command.Choice> choices = toChoices(
+                provider.streamSuggestions(context, prefix, MAX_CHOICES),
+                focused.getType()
+        );
+        if (key != null)
+            choiceCache.put(key, choices);
         event.replyChoices(choices).queue();
     }
 
+    /**
+     * Returns the key of the cached choices for the given auto-complete query,
+     * or {@code null} if they should not be cached because the query contains
+     * other options, which the suggestion provider may depend on.
+     */
+    private static @Nullable ChoiceCache.Key cacheKey(
+            @NotNull CommandAutoCompleteInteractionEvent event,
+            @NotNull String fullPath,
+            @NotNull AutoCompleteQuery focused
+    ) {
+        for (OptionMapping option : event.getOptions()) {
+            if (option.getType() == OptionType.SUB_COMMAND || option.getType() == OptionType.SUB_COMMAND_GROUP)
+                continue;
+            if (!option.getName().equals(focused.getName()))
+                return null;
+        }
+        Guild guild = event.getGuild();
+        return new ChoiceCache.Key(
+                guild == null ? 0 : guild.getIdLong(),
+                event.getUser().getIdLong(),
+                fullPath,
+                focused.getName(),
+                focused.getValue()
+        );
+    }
+
     private @NotNull ExecutionContext<A> readArgumentsIntoContext(
             @NotNull A actor,
             @NotNull ExecutableCommand<A> command,
@@ -106,11 +253,10 @@ public final class JDASlashListener<A extends SlashCommandActor> implements Even
             boolean ignoreExceptions
     ) {
         MutableExecutionContext<A> context = ExecutionContext.createMutable(command, actor, StringStream.create(input));
-        Map<String, ParameterNode<A, ?>> parameters = new HashMap<>(command.parameters());
         for (OptionMapping option : options) {
             if (option.getType() == OptionType.SUB_COMMAND || option.getType() == OptionType.SUB_COMMAND_GROUP)
                 continue;
-            ParameterNode<A, ?> parameter = parameters.remove(option.getName());
+            ParameterNode<A, ?> parameter = command.parameter(option.getName());
             if (option.getType() == OptionType.STRING && parameter.type() != String.class) {
                 MutableStringStream stream = StringStream.createMutable(option.getAsString());
                 try {
@@ -131,20 +277,28 @@ public final class JDASlashListener<A extends SlashCommandActor> implements Even
             }
         }
         MutableStringStream empty = StringStream.createMutable("");
-        if (!parameters.isEmpty()) {
-            for (ParameterNode<A, ?> parameter : parameters.values()) {
-                try {
-                    Object value = parameter.parse(empty, context);
-                    context.addResolvedArgument(parameter.name(), value);
-                } catch (Throwable t) {
-                    if (!ignoreExceptions)
-                        lamp.handleException(t, parsingParameter(context, parameter, empty));
-                }
+        for (ParameterNode<A, ?> parameter : command.parameters().values()) {
+            if (hasOption(options, parameter.name()))
+                continue;
+            try {
+                Object value = parameter.parse(empty, context);
+                context.addResolvedArgument(parameter.name(), value);
+            } catch (Throwable t) {
+                if (!ignoreExceptions)
+                    lamp.handleException(t, parsingParameter(context, parameter, empty));
             }
         }
         return context;
     }
 
+    private static boolean hasOption(@NotNull List<OptionMapping> options, @NotNull String name) {
+        for (OptionMapping option : options) {
+            if (option.getName().equals(name))
+                return true;
+        }
+        return false;
+    }
+
     @Override public void onEvent(@NotNull GenericEvent event) {
         if (event instanceof SlashCommandInteractionEvent) {
             SlashCommandInteractionEvent slash = (SlashCommandInteractionEvent) event;
@@ -0,0 +1,121 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.jda.slash;
+
+import net.dv8tion.jda.api.interactions.commands.OptionMapping;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+import revxrsal.commands.Lamp;
+import revxrsal.commands.command.ExecutableCommand;
+import revxrsal.commands.jda.JDAUtils;
+import revxrsal.commands.jda.actor.SlashCommandActor;
+
+import java.util.*;
+
+/**
+ * An index of the registered commands by their full slash command name
+ * (see {@link JDAUtils#getRequiredPath(ExecutableCommand)}).
+ * <p>
+ * The index is rebuilt whenever commands are registered or unregistered,
+ * which replaces the registry's list of commands.
+ *
+ * @param <A> The actor type
+ */
+final class SlashCommandIndex<A extends SlashCommandActor> {
+
+    private final @NotNull Lamp<A> lamp;
+    private volatile @NotNull Snapshot<A> snapshot;
+
+    SlashCommandIndex(@NotNull Lamp<A> lamp) {
+        this.lamp = lamp;
+        this.snapshot = new Snapshot<>(lamp.registry().commands());
+    }
+
+    /**
+     * Finds the most suitable {@link ExecutableCommand} from the given path and options.
+     * This is equivalent to {@link JDAUtils#findCommand(Lamp, String, List)}.
+     *
+     * @param fullPath The full path of literals
+     * @param options  The supplied list of options
+     * @return The command, or {@code null} if not found.
+     */
+    public @Nullable ExecutableCommand<A> find(@NotNull String fullPath, @NotNull List<OptionMapping> options) {
+        Snapshot<A> snapshot = this.snapshot;
+        List<ExecutableCommand<A>> commands = lamp.registry().commands();
+        if (snapshot.commands != commands)
+            this.snapshot = snapshot = new Snapshot<>(commands);
+        Candidate<A>[] candidates = snapshot.index.get(fullPath);
+        if (candidates == null)
+            return null;
+        if (candidates.length == 1)
+            return candidates[0].command;
+        for (Candidate<A> candidate : candidates) {
+            if (candidate.accepts(options))
+                return candidate.command;
+        }
+        return null;
+    }
+
+    private static final class Snapshot<A extends SlashCommandActor> {
+
+        private final @Unmodifiable List<ExecutableCommand<A>> commands;
+        private final @NotNull Map<String, Candidate<A>[]> index;
+
+        @SuppressWarnings("unchecked")
+        private Snapshot(@NotNull @Unmodifiable List<ExecutableCommand<A>> commands) {
+            this.commands = commands;
+            Map<String, List<Candidate<A>>> byPath = new HashMap<>();
+            for (ExecutableCommand<A> command : commands) {
+                byPath.computeIfAbsent(JDAUtils.getRequiredPath(command), k -> new ArrayList<>(1))
+                        .add(new Candidate<>(command));
+            }
+            this.index = new HashMap<>(byPath.size() * 2);
+            byPath.forEach((path, candidates) -> index.put(path, (Candidate<A>[]) candidates.toArray(new Candidate<?>[0])));
+        }
+    }
+
+    /**
+     * A command with the names of its parameters, which are the names
+     * of the options it accepts.
+     */
+    private static final class Candidate<A extends SlashCommandActor> {
+
+        private final @NotNull ExecutableCommand<A> command;
+        private final @NotNull Set<String> parameterNames;
+
+        private Candidate(@NotNull ExecutableCommand<A> command) {
+            this.command = command;
+            this.parameterNames = new HashSet<>(command.parameters().keySet());
+        }
+
+        private boolean accepts(@NotNull List<OptionMapping> options) {
+            for (OptionMapping option : options) {
+                if (!parameterNames.contains(option.getName()))
+                    return false;
+            }
+            return true;
+        }
+    }
+}
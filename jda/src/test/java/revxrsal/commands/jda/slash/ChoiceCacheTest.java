@@ -0,0 +1,94 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.jda.slash;
+
+import net.dv8tion.jda.api.interactions.commands.Command.Choice;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChoiceCacheTest {
+
+    private static final Duration TIME_TO_LIVE = Duration.ofSeconds(5);
+
+    private long now = 0;
+
+    private ChoiceCache cache(int maximumSize) {
+        return new ChoiceCache(maximumSize, TIME_TO_LIVE, () -> now);
+    }
+
+    private static List<Choice> choices(String value) {
+        return Collections.singletonList(new Choice(value, value));
+    }
+
+    private static ChoiceCache.Key key(long guild, long user, String prefix) {
+        return new ChoiceCache.Key(guild, user, "eco give", "target", prefix);
+    }
+
+    @Test
+    void returnsChoicesUntilTheyExpire() {
+        ChoiceCache cache = cache(16);
+        List<Choice> choices = choices("alice");
+        cache.put(key(1, 2, "a"), choices);
+
+        now += TIME_TO_LIVE.toNanos();
+        assertSame(choices, cache.get(key(1, 2, "a")));
+
+        now += 1;
+        assertNull(cache.get(key(1, 2, "a")));
+    }
+
+    @Test
+    void evictsTheLeastRecentlyUsedEntry() {
+        ChoiceCache cache = cache(2);
+        cache.put(key(1, 2, "a"), choices("a"));
+        cache.put(key(1, 2, "b"), choices("b"));
+        // touch "a" so that "b" is the eldest
+        assertNotNull(cache.get(key(1, 2, "a")));
+
+        cache.put(key(1, 2, "c"), choices("c"));
+
+        assertNotNull(cache.get(key(1, 2, "a")));
+        assertNull(cache.get(key(1, 2, "b")));
+        assertNotNull(cache.get(key(1, 2, "c")));
+    }
+
+    @Test
+    void scopesChoicesToTheGuildAndUser() {
+        ChoiceCache cache = cache(16);
+        cache.put(key(1, 2, "a"), choices("alice"));
+
+        assertNotNull(cache.get(key(1, 2, "a")));
+        assertNull(cache.get(key(1, 3, "a")), "choices of a user were shown to another user");
+        assertNull(cache.get(key(4, 2, "a")), "choices of a guild were shown in another guild");
+        assertNull(cache.get(key(0, 2, "a")), "choices of a guild were shown in direct messages");
+        assertNull(cache.get(key(1, 2, "al")));
+        assertNull(cache.get(new ChoiceCache.Key(1, 2, "eco take", "target", "a")));
+        assertNull(cache.get(new ChoiceCache.Key(1, 2, "eco give", "amount", "a")));
+    }
+}
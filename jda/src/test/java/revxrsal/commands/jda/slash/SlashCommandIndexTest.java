@@ -0,0 +1,128 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.jda.slash;
+
+import net.dv8tion.jda.api.interactions.commands.OptionMapping;
+import net.dv8tion.jda.api.interactions.commands.OptionType;
+import net.dv8tion.jda.api.utils.data.DataObject;
+import org.junit.jupiter.api.Test;
+import revxrsal.commands.Lamp;
+import revxrsal.commands.annotation.Command;
+import revxrsal.commands.annotation.Subcommand;
+import revxrsal.commands.command.ExecutableCommand;
+import revxrsal.commands.jda.actor.SlashCommandActor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlashCommandIndexTest {
+
+    @Command("eco")
+    public static final class EcoCommands {
+
+        @Subcommand("give")
+        public void give(SlashCommandActor actor, String target, int amount) {
+        }
+
+        @Subcommand("reset")
+        public void reset(SlashCommandActor actor) {
+        }
+    }
+
+    public static final class GreetCommands {
+
+        @Command("greet")
+        public void byName(SlashCommandActor actor, String name) {
+        }
+
+        @Command("greet")
+        public void byId(SlashCommandActor actor, long id) {
+        }
+    }
+
+    public static final class PingCommand {
+
+        @Command("ping")
+        public void ping(SlashCommandActor actor) {
+        }
+    }
+
+    private static OptionMapping option(String name) {
+        DataObject data = DataObject.empty()
+                .put("name", name)
+                .put("type", OptionType.STRING.getKey())
+                .put("value", "x");
+        return new OptionMapping(data, null, null, null);
+    }
+
+    private static List<OptionMapping> options(String... names) {
+        return Arrays.stream(names).map(SlashCommandIndexTest::option).collect(Collectors.toList());
+    }
+
+    private static String methodName(ExecutableCommand<?> command) {
+        return command == null ? null : command.function().method().getName();
+    }
+
+    @Test
+    void findsCommandsByTheirFullName() {
+        Lamp<SlashCommandActor> lamp = Lamp.<SlashCommandActor>builder().build();
+        lamp.register(new EcoCommands());
+        SlashCommandIndex<SlashCommandActor> index = new SlashCommandIndex<>(lamp);
+
+        assertEquals("give", methodName(index.find("eco give", options("target", "amount"))));
+        assertEquals("reset", methodName(index.find("eco reset", Collections.emptyList())));
+        assertNull(index.find("eco", Collections.emptyList()));
+        assertNull(index.find("eco take", Collections.emptyList()));
+    }
+
+    @Test
+    void picksTheOverloadThatAcceptsTheOptions() {
+        Lamp<SlashCommandActor> lamp = Lamp.<SlashCommandActor>builder().build();
+        lamp.register(new GreetCommands());
+        SlashCommandIndex<SlashCommandActor> index = new SlashCommandIndex<>(lamp);
+
+        assertEquals("byName", methodName(index.find("greet", options("name"))));
+        assertEquals("byId", methodName(index.find("greet", options("id"))));
+        assertNull(index.find("greet", options("name", "id")));
+    }
+
+    @Test
+    void followsRegistrationsAndUnregistrations() {
+        Lamp<SlashCommandActor> lamp = Lamp.<SlashCommandActor>builder().build();
+        lamp.register(new EcoCommands());
+        SlashCommandIndex<SlashCommandActor> index = new SlashCommandIndex<>(lamp);
+        assertNull(index.find("ping", Collections.emptyList()));
+
+        lamp.register(new PingCommand());
+        assertEquals("ping", methodName(index.find("ping", Collections.emptyList())));
+
+        lamp.unregisterIf(command -> command.path().equals("ping"));
+        assertNull(index.find("ping", Collections.emptyList()));
+        assertEquals("reset", methodName(index.find("eco reset", Collections.emptyList())));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.jfr;
+
+import jdk.jfr.EventType;
+import org.jetbrains.annotations.NotNull;
+import revxrsal.commands.Lamp;
+import revxrsal.commands.metrics.LampEvent;
+import revxrsal.commands.metrics.LampEvents;
+
+/**
+ * A {@link LampEvents} that creates JDK Flight Recorder events, which allows
+ * Lamp's work to show up in recordings next to GC, lock and I/O events.
+ * <p>
+ * To use it, pass it to {@link Lamp.Builder#events(LampEvents)}:
+ * <pre>{@code
+ * Lamp<A> lamp = Lamp.builder()
+ *         .events(FlightRecorderEvents.INSTANCE)
+ *         .build();
+ * }</pre>
+ * The events are disabled by default, and cost close to nothing until they
+ * are enabled in the recording settings, as no event is allocated while its
+ * type is disabled. All of them are in the {@code Lamp} category:
+ * <ul>
+ *     <li>{@code lamp.Dispatch}</li>
+ *     <li>{@code lamp.PotentialTest}</li>
+ *     <li>{@code lamp.Parse}</li>
+ *     <li>{@code lamp.Suggestions}</li>
+ *     <li>{@code lamp.Response}</li>
+ *     <li>{@code lamp.ExceptionHandling}</li>
+ * </ul>
+ */
+public final class FlightRecorderEvents implements LampEvents {
+
+    public static final FlightRecorderEvents INSTANCE = new FlightRecorderEvents();
+
+    /**
+     * The event returned when an event type is disabled. Returning a shared
+     * instance rather than a new, disabled event avoids allocating an event on
+     * every parse, test and suggestion while no recording is interested in it.
+     */
+    private static final LampEvent DISABLED = LampEvents.none().dispatch();
+
+    private static final EventType DISPATCH = EventType.getEventType(DispatchEvent.class);
+    private static final EventType POTENTIAL_TEST = EventType.getEventType(PotentialTestEvent.class);
+    private static final EventType PARSE = EventType.getEventType(ParseEvent.class);
+    private static final EventType SUGGESTIONS = EventType.getEventType(SuggestionsEvent.class);
+    private static final EventType RESPONSE = EventType.getEventType(ResponseEvent.class);
+    private static final EventType EXCEPTION_HANDLING = EventType.getEventType(ExceptionHandlingEvent.class);
+
+    private FlightRecorderEvents() {
+    }
+
+    private static @NotNull LampEvent begin(@NotNull LampFlightRecorderEvent event) {
+        event.begin();
+        return event;
+    }
+
+    @Override public @NotNull LampEvent dispatch() {
+        return DISPATCH.isEnabled() ? begin(new DispatchEvent()) : DISABLED;
+    }
+
+    @Override public @NotNull LampEvent potentialTest() {
+        return POTENTIAL_TEST.isEnabled() ? begin(new PotentialTestEvent()) : DISABLED;
+    }
+
+    @Override public @NotNull LampEvent parse() {
+        return PARSE.isEnabled() ? begin(new ParseEvent()) : DISABLED;
+    }
+
+    @Override public @NotNull LampEvent suggestions() {
+        return SUGGESTIONS.isEnabled() ? begin(new SuggestionsEvent()) : DISABLED;
+    }
+
+    @Override public @NotNull LampEvent response() {
+        return RESPONSE.isEnabled() ? begin(new ResponseEvent()) : DISABLED;
+    }
+
+    @Override public @NotNull LampEvent exceptionHandling() {
+        return EXCEPTION_HANDLING.isEnabled() ? begin(new ExceptionHandlingEvent()) : DISABLED;
+    }
+
+    @Override public String toString() {
+        return "FlightRecorderEvents";
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import revxrsal.commands.metrics.LampEvent;
+
+/**
+ * The base of all Lamp's Flight Recorder events. All of them share the
+ * actor, command and outcome fields, so that they line up in the same
+ * columns in JDK Mission Control.
+ * <p>
+ * Events are disabled by default, and must be enabled in the recording
+ * settings, for example with {@code jfr configure +lamp.Dispatch#enabled=true}.
+ */
+@Category("Lamp")
+@Enabled(false)
+@StackTrace(false)
+abstract class LampFlightRecorderEvent extends Event implements LampEvent {
+
+    @Label("Actor")
+    String actor;
+
+    @Label("Command")
+    String command;
+
+    @Label("Outcome")
+    String outcome;
+
+    /**
+     * Sets the subject of this event, if it has any
+     *
+     * @param subject The subject
+     */
+    abstract void subject(@Nullable String subject);
+
+    @Override
+    public final void commit(@Nullable String actor, @Nullable String command, @Nullable String subject, @NotNull String outcome) {
+        this.actor = actor;
+        this.command = command;
+        this.outcome = outcome;
+        subject(subject);
+        commit();
+    }
+}
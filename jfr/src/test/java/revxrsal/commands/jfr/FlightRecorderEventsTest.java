@@ -0,0 +1,60 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.jfr;
+
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.Test;
+import revxrsal.commands.metrics.LampEvent;
+import revxrsal.commands.metrics.LampEvents;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightRecorderEventsTest {
+
+    private final LampEvents events = FlightRecorderEvents.INSTANCE;
+
+    @Test
+    void disabledEventsAreNotAllocated() {
+        LampEvent parse = events.parse();
+        assertFalse(parse.shouldCommit());
+        assertSame(parse, events.parse());
+        assertSame(parse, events.potentialTest());
+        assertSame(parse, events.suggestions());
+    }
+
+    @Test
+    void enabledEventsAreCreatedPerCall() {
+        try (Recording recording = new Recording()) {
+            recording.enable(ParseEvent.class);
+            recording.start();
+
+            LampEvent parse = events.parse();
+            assertInstanceOf(ParseEvent.class, parse);
+            assertTrue(parse.shouldCommit());
+            assertNotSame(parse, events.parse());
+            // other event types stay disabled
+            assertFalse(events.dispatch().shouldCommit());
+        }
+    }
+}
@@ -11,6 +11,13 @@ repositories {
 dependencies {
     implementation(project(":common"))
     compileOnly("net.minestom:minestom-snapshots:7ce047b22e")
+    testImplementation("net.minestom:minestom-snapshots:7ce047b22e")
+    testImplementation(platform("org.junit:junit-bom:5.10.0"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+}
+
+tasks.test {
+    useJUnitPlatform()
 }
 
 java.toolchain.languageVersion.set(JavaLanguageVersion.of(21))
\ No newline at end of file
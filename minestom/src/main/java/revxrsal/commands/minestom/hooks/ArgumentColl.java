@@ -24,9 +24,7 @@
 package revxrsal.commands.minestom.hooks;
 
 import net.minestom.server.command.builder.arguments.Argument;
-import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -46,11 +44,4 @@ final class ArgumentColl {
     public List<Argument<?>> arguments() {
         return arguments;
     }
-
-    public @NotNull List<Argument<?>> after(List<Argument<?>> arguments) {
-        List<Argument<?>> list = new ArrayList<>(arguments.size() + this.arguments.size());
-        list.addAll(arguments);
-        list.addAll(this.arguments);
-        return list;
-    }
 }
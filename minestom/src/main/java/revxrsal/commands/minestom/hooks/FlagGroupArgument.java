@@ -0,0 +1,236 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.minestom.hooks;
+
+import net.minestom.server.command.CommandSender;
+import net.minestom.server.command.builder.CommandContext;
+import net.minestom.server.command.builder.arguments.Argument;
+import net.minestom.server.command.builder.arguments.ArgumentType;
+import net.minestom.server.command.builder.exception.ArgumentSyntaxException;
+import net.minestom.server.command.builder.suggestion.Suggestion;
+import net.minestom.server.command.builder.suggestion.SuggestionCallback;
+import net.minestom.server.command.builder.suggestion.SuggestionEntry;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import revxrsal.commands.command.ExecutableCommand;
+import revxrsal.commands.exception.UnknownParameterException;
+import revxrsal.commands.exception.context.ErrorContext;
+import revxrsal.commands.minestom.actor.ActorFactory;
+import revxrsal.commands.minestom.actor.MinestomCommandActor;
+import revxrsal.commands.node.ExecutionContext;
+import revxrsal.commands.node.MutableExecutionContext;
+import revxrsal.commands.node.ParameterNode;
+import revxrsal.commands.node.parser.FlagParser;
+import revxrsal.commands.stream.StringStream;
+
+import java.util.*;
+
+import static revxrsal.commands.node.DispatcherSettings.LONG_FORMAT_PREFIX;
+import static revxrsal.commands.node.DispatcherSettings.SHORT_FORMAT_PREFIX;
+
+/**
+ * An {@link Argument} that consumes all the optional flags and switches of
+ * a command, in any order, and parses them with Lamp's {@link FlagParser}.
+ * <p>
+ * Representing the optional flags as a single argument means a command only
+ * needs one extra syntax for them, rather than one for every combination.
+ *
+ * @param <A> The actor type
+ */
+final class FlagGroupArgument<A extends MinestomCommandActor> extends Argument<Map<String, Object>> {
+
+    /**
+     * The ID of the argument. This cannot clash with parameter names, which
+     * are valid Java identifiers, nor with flag literals.
+     */
+    static final String ID = "lamp:flags";
+
+    private final @NotNull ExecutableCommand<A> command;
+    private final @NotNull ActorFactory<A> actorFactory;
+    private final @NotNull List<ParameterNode<A, Object>> parameters;
+    private final @NotNull Map<ParameterNode<A, Object>, SuggestionCallback> valueSuggestions;
+
+    // the argument that tells clients to send everything as a greedy string
+    private final @NotNull Argument<String[]> greedy = ArgumentType.StringArray(ID);
+
+    FlagGroupArgument(
+            @NotNull ExecutableCommand<A> command,
+            @NotNull ActorFactory<A> actorFactory,
+            @NotNull List<ParameterNode<A, Object>> parameters,
+            @NotNull Map<ParameterNode<A, Object>, SuggestionCallback> valueSuggestions
+    ) {
+        super(ID, true, true);
+        this.command = command;
+        this.actorFactory = actorFactory;
+        this.parameters = parameters;
+        this.valueSuggestions = valueSuggestions;
+        setCallback((sender, exception) -> handleException(exception));
+        setSuggestionCallback(this::suggest);
+    }
+
+    /**
+     * Adds the flags and switches parsed by the flag group of the
+     * given Minestom context (if any) into the Lamp context.
+     *
+     * @param executionContext The Lamp context
+     * @param context          The Minestom context
+     */
+    static <A extends MinestomCommandActor> void readInto(
+            @NotNull MutableExecutionContext<A> executionContext,
+            @NotNull CommandContext context
+    ) {
+        Map<String, Object> flags = context.get(ID);
+        if (flags != null)
+            flags.forEach(executionContext::addResolvedArgument);
+    }
+
+    @Override
+    public @NotNull Map<String, Object> parse(@NotNull CommandSender sender, @NotNull String input) throws ArgumentSyntaxException {
+        A actor = actorFactory.create(sender, command.lamp());
+        MutableExecutionContext<A> context = ExecutionContext.createMutable(command, actor, StringStream.create(input));
+        FlagParser<A> parser = new FlagParser<>(context, StringStream.createMutable(input), parameters);
+        if (!parser.tryParse()) {
+            ErrorContext<A> errorContext = parser.errorContext();
+            throw new FlagSyntaxException(
+                    input,
+                    parser.error(),
+                    errorContext == null ? ErrorContext.unknownParameter(context) : errorContext
+            );
+        }
+        // the flag parser skips over anything that is not a flag
+        String remaining = parser.strippedInput().source().trim();
+        if (!remaining.isEmpty()) {
+            String unknown = StringStream.create(remaining).peekUnquotedString();
+            throw new FlagSyntaxException(
+                    input,
+                    new UnknownParameterException(unknown, false),
+                    ErrorContext.unknownParameter(context)
+            );
+        }
+        return context.resolvedArguments();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void handleException(@NotNull ArgumentSyntaxException exception) {
+        if (exception instanceof FlagSyntaxException) {
+            FlagSyntaxException flagException = (FlagSyntaxException) exception;
+            command.lamp().handleException(flagException.error, (ErrorContext<A>) flagException.errorContext);
+        }
+    }
+
+    /**
+     * Suggests the values of the flag that precedes the cursor, or the
+     * flags and switches that have not been specified yet.
+     */
+    private void suggest(@NotNull CommandSender sender, @NotNull CommandContext context, @NotNull Suggestion suggestion) {
+        String input = suggestion.getInput();
+        int lastSpace = input.lastIndexOf(' ');
+        String current = input.substring(lastSpace + 1).replace("\0", "");
+        String[] previous = lastSpace == -1 ? new String[0] : input.substring(0, lastSpace).split(" ");
+
+        if (previous.length > 0) {
+            ParameterNode<A, Object> flag = parameterOf(previous[previous.length - 1]);
+            if (flag != null && flag.isFlag()) {
+                SuggestionCallback values = valueSuggestions.get(flag);
+                if (values != null)
+                    values.apply(sender, context, suggestion);
+                return;
+            }
+        }
+
+        Set<ParameterNode<A, Object>> specified = new HashSet<>();
+        for (String token : previous) {
+            if (token.startsWith(LONG_FORMAT_PREFIX)) {
+                ParameterNode<A, Object> parameter = parameterOf(token);
+                if (parameter != null)
+                    specified.add(parameter);
+            } else if (token.startsWith(SHORT_FORMAT_PREFIX)) {
+                for (char shorthand : token.substring(SHORT_FORMAT_PREFIX.length()).toCharArray()) {
+                    ParameterNode<A, Object> parameter = parameterWithShorthand(shorthand);
+                    if (parameter != null)
+                        specified.add(parameter);
+                }
+            }
+        }
+        for (ParameterNode<A, Object> parameter : parameters) {
+            if (specified.contains(parameter))
+                continue;
+            String literal = LONG_FORMAT_PREFIX + (parameter.isSwitch() ? parameter.switchName() : parameter.flagName());
+            if (literal.startsWith(current))
+                suggestion.addEntry(new SuggestionEntry(literal));
+        }
+    }
+
+    /**
+     * Returns the parameter that the given flag token refers to, in
+     * either the long or the short format.
+     */
+    private @Nullable ParameterNode<A, Object> parameterOf(@NotNull String token) {
+        if (token.startsWith(LONG_FORMAT_PREFIX)) {
+            String name = token.substring(LONG_FORMAT_PREFIX.length());
+            for (ParameterNode<A, Object> parameter : parameters) {
+                if (parameter.isSwitch() ? name.equals(parameter.switchName()) : name.equals(parameter.flagName()))
+                    return parameter;
+            }
+        } else if (token.startsWith(SHORT_FORMAT_PREFIX) && token.length() == SHORT_FORMAT_PREFIX.length() + 1) {
+            return parameterWithShorthand(token.charAt(SHORT_FORMAT_PREFIX.length()));
+        }
+        return null;
+    }
+
+    private @Nullable ParameterNode<A, Object> parameterWithShorthand(char shorthand) {
+        for (ParameterNode<A, Object> parameter : parameters) {
+            Character c = parameter.shorthand();
+            if (c != null && c == shorthand)
+                return parameter;
+        }
+        return null;
+    }
+
+    @Override
+    public String parser() {
+        return greedy.parser();
+    }
+
+    @Override
+    public byte @Nullable [] nodeProperties() {
+        return greedy.nodeProperties();
+    }
+
+    /**
+     * An {@link ArgumentSyntaxException} that carries the error of the
+     * {@link FlagParser}, so that Lamp can handle it.
+     */
+    private static final class FlagSyntaxException extends ArgumentSyntaxException {
+
+        private final transient @NotNull Throwable error;
+        private final transient @NotNull ErrorContext<?> errorContext;
+
+        private FlagSyntaxException(@NotNull String input, @NotNull Throwable error, @NotNull ErrorContext<?> errorContext) {
+            super(String.valueOf(error.getMessage()), input, 0);
+            this.error = error;
+            this.errorContext = errorContext;
+        }
+    }
+}
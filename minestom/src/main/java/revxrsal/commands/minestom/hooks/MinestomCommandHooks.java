@@ -39,7 +39,6 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import revxrsal.commands.autocomplete.SuggestionProvider;
 import revxrsal.commands.command.ExecutableCommand;
-import revxrsal.commands.exception.ThrowableFromCommand;
 import revxrsal.commands.exception.context.ErrorContext;
 import revxrsal.commands.hook.CancelHandle;
 import revxrsal.commands.hook.CommandRegisteredHook;
@@ -51,6 +50,7 @@ import revxrsal.commands.node.*;
 import revxrsal.commands.parameter.ParameterType;
 import revxrsal.commands.stream.MutableStringStream;
 import revxrsal.commands.stream.StringStream;
+import revxrsal.commands.util.ClassMetadata;
 
 import java.util.*;
 
@@ -88,7 +88,7 @@ public final class MinestomCommandHooks<A extends MinestomCommandActor> implemen
      * @param minestomCommand Minestom command to add into
      */
     @Contract(mutates = "param2")
-    private void addCommand(@NotNull ExecutableCommand<A> command, @NotNull Command minestomCommand) {
+    void addCommand(@NotNull ExecutableCommand<A> command, @NotNull Command minestomCommand) {
         Set<String> usedLiterals = new HashSet<>();
         if (command.size() == 1) {
             minestomCommand.setDefaultExecutor((sender, context) -> {
@@ -98,7 +98,8 @@ public final class MinestomCommandHooks<A extends MinestomCommandActor> implemen
             });
         } else {
             List<Argument<?>> arguments = new ArrayList<>();
-            List<ArgumentColl> addedOptionals = new ArrayList<>();
+            List<ParameterNode<A, Object>> optionalFlags = new ArrayList<>();
+            int lastSyntaxSize = -1;
             for (int i = 1; i < command.nodes().size(); i++) {
                 CommandNode<A> node = command.nodes().get(i);
                 if (node.isLiteral()) {
@@ -111,59 +112,43 @@ public final class MinestomCommandHooks<A extends MinestomCommandActor> implemen
                 if (node.isLiteral())
                     arguments.add(toArgument(node));
                 else if (node instanceof ParameterNode<A, ?>) {
-                    ParameterNode<A, ?> parameter = (ParameterNode<A, ?>) node;
-                    if (parameter.isSwitch()) {
+                    //noinspection unchecked
+                    ParameterNode<A, Object> parameter = (ParameterNode<A, Object>) node;
+                    if (parameter.isFlag() && parameter.isRequired()) {
+                        arguments.addAll(ofFlag(parameter).arguments());
+                    } else if (parameter.isSwitch() || parameter.isFlag()) {
                         // add the required
-                        minestomCommand.addSyntax(generateAction(command), arguments.toArray(Argument[]::new));
-
-                        // add it to the required and then add that.
-                        ArgumentColl sw = ofSwitch(parameter);
-                        addedOptionals.add(sw);
-                    } else if (parameter.isFlag()) {
-                        ArgumentColl argumentColl = ofFlag(parameter);
-                        if (parameter.isRequired()) {
-                            arguments.addAll(argumentColl.arguments());
-                        } else {
+                        if (arguments.size() != lastSyntaxSize) {
                             minestomCommand.addSyntax(generateAction(command), arguments.toArray(Argument[]::new));
-
-                            ArgumentColl flag = ofFlag(parameter);
-                            addedOptionals.add(flag);
+                            lastSyntaxSize = arguments.size();
                         }
+                        optionalFlags.add(parameter);
                     } else {
                         arguments.add(toArgument(node));
                     }
                 }
             }
-            minestomCommand.addSyntax(generateAction(command), arguments.toArray(Argument[]::new));
-            addOptionalFlagsRecursively(command, minestomCommand, addedOptionals, arguments);
+            if (arguments.size() != lastSyntaxSize)
+                minestomCommand.addSyntax(generateAction(command), arguments.toArray(Argument[]::new));
+            if (!optionalFlags.isEmpty()) {
+                // all optional flags and switches are parsed by a single argument,
+                // rather than adding a syntax for every combination of them.
+                arguments.add(ofOptionalFlags(command, optionalFlags));
+                minestomCommand.addSyntax(generateAction(command), arguments.toArray(Argument[]::new));
+            }
         }
     }
 
-    private void addOptionalFlagsRecursively(
+    private @NotNull FlagGroupArgument<A> ofOptionalFlags(
             @NotNull ExecutableCommand<A> command,
-            @NotNull Command minestomCommand,
-            @NotNull List<ArgumentColl> addedOptionals,
-            @NotNull List<Argument<?>> arguments
+            @NotNull List<ParameterNode<A, Object>> parameters
     ) {
-        for (int i = 0; i < addedOptionals.size(); i++) {
-            ArgumentColl o = addedOptionals.get(i);
-            List<Argument<?>> after = o.after(arguments);
-            minestomCommand.addSyntax(generateAction(command), after.toArray(Argument[]::new));
-            for (int j = i + 1; j < addedOptionals.size(); j++) {
-                addOptionalFlagsRecursively(
-                        command,
-                        minestomCommand,
-                        addedOptionals.subList(j, addedOptionals.size()),
-                        after
-                );
-            }
+        Map<ParameterNode<A, Object>, SuggestionCallback> valueSuggestions = new HashMap<>();
+        for (ParameterNode<A, Object> parameter : parameters) {
+            if (parameter.isFlag() && !parameter.suggestions().equals(SuggestionProvider.empty()))
+                valueSuggestions.put(parameter, createSuggestionCallback(command, parameter));
         }
-    }
-
-    private ArgumentColl ofSwitch(ParameterNode<A, ?> parameter) {
-        return new ArgumentColl(
-                new ArgumentLiteral(DispatcherSettings.LONG_FORMAT_PREFIX + parameter.switchName())
-        );
+        return new FlagGroupArgument<>(command, actorFactory, parameters, valueSuggestions);
     }
 
     private ArgumentColl ofFlag(ParameterNode<A, ?> parameter) {
@@ -187,6 +172,7 @@ public final class MinestomCommandHooks<A extends MinestomCommandActor> implemen
             A actor = actorFactory.create(sender, command.lamp());
             MutableExecutionContext<A> context = ExecutionContext.createMutable(command, actor, StringStream.create(mContext.getInput()));
             try {
+                FlagGroupArgument.readInto(context, mContext);
                 readIntoLampContext(context, mContext);
                 command.execute(context);
             } catch (Throwable t) {
@@ -299,7 +285,7 @@ public final class MinestomCommandHooks<A extends MinestomCommandActor> implemen
         try {
             return parameter.parse(input, context);
         } catch (Throwable t) {
-            if (t.getClass().isAnnotationPresent(ThrowableFromCommand.class))
+            if (ClassMetadata.of(t.getClass()).isThrowableFromCommand())
                 throw new ArgumentSyntaxException(t.getMessage(), context.input().source(), 0);
             throw t;
         }
@@ -325,6 +311,7 @@ public final class MinestomCommandHooks<A extends MinestomCommandActor> implemen
                     StringStream.create(context.getInput())
             );
             try {
+                FlagGroupArgument.readInto(executionContext, context);
                 readIntoLampContext(executionContext, context);
             } catch (Throwable ignored) {
             }
@@ -56,7 +56,8 @@ public final class MinestomUtils {
     }
 
     /**
-     * Converts a Minestom {@link CommandContext} into a Lamp {@link ExecutionContext}
+     * Converts a Minestom {@link CommandContext} into a Lamp {@link ExecutionContext}.
+     * Arguments that are already resolved in the Lamp context are left as-is.
      *
      * @param <A>     The actor type
      * @param context The Minestom context
@@ -67,6 +68,8 @@ public final class MinestomUtils {
     ) {
         notNull(context, "context");
         for (ParameterNode<A, ?> parameter : executionContext.command().parameters().values()) {
+            if (executionContext.resolvedArguments().containsKey(parameter.name()))
+                continue;
             Object o;
             if (parameter.isSwitch()) {
                 o = containsFlag(context, parameter.switchName());
@@ -0,0 +1,199 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.minestom.hooks;
+
+import net.kyori.adventure.text.ComponentLike;
+import net.minestom.server.command.CommandSender;
+import net.minestom.server.command.builder.CommandContext;
+import net.minestom.server.command.builder.exception.ArgumentSyntaxException;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import revxrsal.commands.Lamp;
+import revxrsal.commands.annotation.Command;
+import revxrsal.commands.annotation.Flag;
+import revxrsal.commands.annotation.Optional;
+import revxrsal.commands.annotation.Switch;
+import revxrsal.commands.command.ExecutableCommand;
+import revxrsal.commands.minestom.actor.MinestomCommandActor;
+import revxrsal.commands.node.ExecutionContext;
+import revxrsal.commands.node.MutableExecutionContext;
+import revxrsal.commands.node.ParameterNode;
+import revxrsal.commands.stream.StringStream;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlagGroupArgumentTest {
+
+    public static final class FxCommand {
+
+        @Command("fx")
+        public void fx(
+                MinestomCommandActor actor,
+                int target,
+                @Flag("count") @Optional Integer count,
+                @Flag("name") @Optional String name,
+                @Switch("silent") boolean silent
+        ) {}
+    }
+
+    /**
+     * An actor that records the errors sent to it
+     */
+    private static final class TestActor implements MinestomCommandActor {
+
+        private final Lamp<MinestomCommandActor> lamp;
+        private final List<String> errors = new ArrayList<>();
+
+        private TestActor(Lamp<MinestomCommandActor> lamp) {
+            this.lamp = lamp;
+        }
+
+        @Override public @NotNull CommandSender sender() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override public void reply(@NotNull ComponentLike message) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override public void error(@NotNull ComponentLike message) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override public void sendRawMessage(@NotNull String message) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override public void sendRawError(@NotNull String message) {
+            errors.add(message);
+        }
+
+        @Override public @NotNull String name() {
+            return "tester";
+        }
+
+        @Override public @NotNull UUID uniqueId() {
+            return new UUID(0, 0);
+        }
+
+        @Override public Lamp<MinestomCommandActor> lamp() {
+            return lamp;
+        }
+    }
+
+    private final Lamp<MinestomCommandActor> lamp = Lamp.<MinestomCommandActor>builder().build();
+    private final ExecutableCommand<MinestomCommandActor> command = lamp.register(new FxCommand()).get(0);
+    private final TestActor actor = new TestActor(lamp);
+    private final FlagGroupArgument<MinestomCommandActor> argument = new FlagGroupArgument<>(
+            command,
+            (sender, lamp) -> actor,
+            flagsOf(command),
+            Collections.emptyMap()
+    );
+
+    private static List<ParameterNode<MinestomCommandActor, Object>> flagsOf(ExecutableCommand<MinestomCommandActor> command) {
+        List<ParameterNode<MinestomCommandActor, Object>> flags = new ArrayList<>();
+        for (ParameterNode<MinestomCommandActor, Object> parameter : command.parameters().values()) {
+            if (parameter.isFlag() || parameter.isSwitch())
+                flags.add(parameter);
+        }
+        return flags;
+    }
+
+    private static Map<String, Object> flags(Integer count, String name, boolean silent) {
+        Map<String, Object> flags = new HashMap<>();
+        flags.put("count", count);
+        flags.put("name", name);
+        flags.put("silent", silent);
+        return flags;
+    }
+
+    /**
+     * Parses the given input, and returns the errors that Lamp reported for it
+     */
+    private List<String> errorsOf(String input) {
+        ArgumentSyntaxException exception = assertThrows(
+                ArgumentSyntaxException.class,
+                () -> argument.parse(null, input)
+        );
+        argument.getCallback().apply(null, exception);
+        return actor.errors;
+    }
+
+    @Test
+    void parsesFlagsAndSwitchesInAnyOrder() {
+        assertEquals(flags(3, "bob", true), new HashMap<>(argument.parse(null, "--count 3 --name bob --silent")));
+        assertEquals(flags(3, "bob", true), new HashMap<>(argument.parse(null, "--silent --name bob --count 3")));
+        assertEquals(flags(3, "bob", true), new HashMap<>(argument.parse(null, "-s -n bob -c 3")));
+    }
+
+    @Test
+    void fillsInFlagsAndSwitchesThatAreNotSpecified() {
+        assertEquals(flags(null, "bob", false), new HashMap<>(argument.parse(null, "--name bob")));
+        assertEquals(flags(null, null, true), new HashMap<>(argument.parse(null, "--silent")));
+    }
+
+    @Test
+    void reportsFlagsWithoutValues() {
+        assertEquals(1, errorsOf("--silent --count").size());
+        assertTrue(actor.errors.get(0).startsWith("Required parameter is missing: count"), actor.errors::toString);
+    }
+
+    @Test
+    void rejectsUnknownFlags() {
+        assertEquals(1, errorsOf("--silent --bad 3").size());
+        assertTrue(actor.errors.get(0).contains("bad"), actor.errors::toString);
+    }
+
+    @Test
+    void rejectsInputThatIsNotAFlag() {
+        assertEquals(1, errorsOf("--silent extra").size());
+        assertTrue(actor.errors.get(0).contains("extra"), actor.errors::toString);
+    }
+
+    @Test
+    void readsParsedFlagsIntoTheLampContext() {
+        CommandContext context = new CommandContext("fx 5 --count 3 --silent");
+        context.setArg(FlagGroupArgument.ID, argument.parse(null, "--count 3 --silent"), "--count 3 --silent");
+        MutableExecutionContext<MinestomCommandActor> executionContext =
+                ExecutionContext.createMutable(command, actor, StringStream.create(context.getInput()));
+
+        FlagGroupArgument.readInto(executionContext, context);
+
+        assertEquals(flags(3, null, true), new HashMap<>(executionContext.resolvedArguments()));
+    }
+
+    @Test
+    void readsNothingWithoutFlags() {
+        CommandContext context = new CommandContext("fx 5");
+        MutableExecutionContext<MinestomCommandActor> executionContext =
+                ExecutionContext.createMutable(command, actor, StringStream.create(context.getInput()));
+
+        FlagGroupArgument.readInto(executionContext, context);
+
+        assertTrue(executionContext.resolvedArguments().isEmpty());
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.minestom.hooks;
+
+import net.minestom.server.command.builder.Command;
+import org.junit.jupiter.api.Test;
+import revxrsal.commands.Lamp;
+import revxrsal.commands.annotation.Flag;
+import revxrsal.commands.annotation.Optional;
+import revxrsal.commands.annotation.Switch;
+import revxrsal.commands.command.ExecutableCommand;
+import revxrsal.commands.minestom.actor.MinestomCommandActor;
+import revxrsal.commands.minestom.argument.ArgumentTypes;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MinestomCommandHooksTest {
+
+    public static final class Commands {
+
+        @revxrsal.commands.annotation.Command("three")
+        public void three(
+                MinestomCommandActor actor,
+                int target,
+                @Flag("a") @Optional Integer a,
+                @Flag("b") @Optional String b,
+                @Switch("c") boolean c
+        ) {}
+
+        @revxrsal.commands.annotation.Command("eight")
+        public void eight(
+                MinestomCommandActor actor,
+                int target,
+                @Flag("a") @Optional Integer a,
+                @Flag("b") @Optional String b,
+                @Flag("c") @Optional Long c,
+                @Flag("d") @Optional Double d,
+                @Switch("e") boolean e,
+                @Switch("f") boolean f,
+                @Switch("g") boolean g,
+                @Switch("h") boolean h
+        ) {}
+
+        @revxrsal.commands.annotation.Command("required")
+        public void required(
+                MinestomCommandActor actor,
+                @Flag("a") int a,
+                @Flag("b") @Optional Integer b,
+                @Flag("c") @Optional String c,
+                @Switch("d") boolean d,
+                @Switch("e") boolean e,
+                @Switch("f") boolean f,
+                @Switch("g") boolean g
+        ) {}
+    }
+
+    private final MinestomCommandHooks<MinestomCommandActor> hooks = new MinestomCommandHooks<>(
+            (sender, lamp) -> {
+                throw new UnsupportedOperationException();
+            },
+            ArgumentTypes.<MinestomCommandActor>builder().build()
+    );
+
+    private final List<ExecutableCommand<MinestomCommandActor>> commands = Lamp.<MinestomCommandActor>builder()
+            .build()
+            .register(new Commands());
+
+    private int syntaxesOf(String name) {
+        for (ExecutableCommand<MinestomCommandActor> command : commands) {
+            if (command.firstNode().name().equals(name)) {
+                Command minestomCommand = new Command(name);
+                hooks.addCommand(command, minestomCommand);
+                return minestomCommand.getSyntaxes().size();
+            }
+        }
+        throw new IllegalArgumentException(name);
+    }
+
+    @Test
+    void optionalFlagsDoNotMultiplySyntaxes() {
+        assertEquals(2, syntaxesOf("three"));
+        assertEquals(2, syntaxesOf("eight"));
+    }
+
+    @Test
+    void requiredFlagsStayInTheBaseSyntax() {
+        assertEquals(2, syntaxesOf("required"));
+    }
+}
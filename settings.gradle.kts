@@ -22,7 +22,9 @@ include("sponge")
 include("jda")
 include("fabric")
 include("minestom")
+include("jfr")
 include("internal-paper-stubs")
+include("benchmarks")
 
 /*
  * -------- Example projects --------
@@ -33,6 +33,7 @@ import com.velocitypowered.api.command.CommandSource;
 import org.jetbrains.annotations.NotNull;
 import revxrsal.commands.Lamp;
 import revxrsal.commands.LampVisitor;
+import revxrsal.commands.brigadier.BrigadierAdapter;
 import revxrsal.commands.brigadier.BrigadierConverter;
 import revxrsal.commands.brigadier.BrigadierParser;
 import revxrsal.commands.command.ExecutableCommand;
@@ -69,7 +70,7 @@ public final class VelocityBrigadier<A extends VelocityCommandActor> implements
         RootCommandNode<CommandSource> root = new RootCommandNode<>();
         for (ExecutableCommand<A> command : lamp.registry()) {
             LiteralCommandNode<CommandSource> node = parser.createNode(command);
-            root.addChild(node);
+            BrigadierAdapter.addChild(root, node);
         }
         for (CommandNode<CommandSource> node : root.getChildren()) {
             BrigadierCommand brigadierCommand = new BrigadierCommand((LiteralCommandNode<CommandSource>) node);